@@ -0,0 +1,132 @@
+package de.mfietz.jhyphenator;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Tokens per second decomposed by {@link CompoundDecomposer}, without and
+ * with a result cache, against hyphenating each token and looking up every
+ * run of syllables in a {@code HashSet<String>}. The tokens are drawn from
+ * 512 German compounds of one to four parts of a 30 word dictionary.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CompoundDecomposerBenchmark {
+
+    private static final int TOKENS = 4096;
+    /** Distinct words among the tokens, which repeat as in real text. */
+    private static final int WORDS = 512;
+
+    private static final List<String> SUBWORDS = Arrays.asList(
+            "Apfel", "Bahn", "Baum", "Bundes", "Dampf", "Donau", "Fahrt", "Fenster", "Flug",
+            "Garten", "Haus", "Himmel", "Hof", "Kapitän", "Kinder", "Koch", "Lampe", "Leben",
+            "Mittag", "Rad", "Regen", "Schiff", "Schirm", "Schule", "Sommer", "Sonne",
+            "Straße", "Tag", "Wasser", "Zeitung");
+
+    private String[] tokens;
+    private CompoundDecomposer decomposer;
+    private CompoundDecomposer cachedDecomposer;
+    private Hyphenator hyphenator;
+    private Set<String> subwords;
+    private int[] spans;
+    private int[] breaks;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        String[] words = new String[WORDS];
+        for (int i = 0; i < WORDS; i++) {
+            StringBuilder word = new StringBuilder();
+            int parts = 1 + random.nextInt(4);
+            for (int p = 0; p < parts; p++) {
+                String part = SUBWORDS.get(random.nextInt(SUBWORDS.size()));
+                word.append(p == 0 ? part : part.toLowerCase(Locale.ROOT));
+            }
+            words[i] = word.toString();
+        }
+        tokens = new String[TOKENS];
+        for (int i = 0; i < TOKENS; i++) {
+            tokens[i] = words[random.nextInt(WORDS)];
+        }
+        hyphenator = Hyphenator.getInstance(HyphenationPattern.DE);
+        SubwordDictionary dictionary = SubwordDictionary.of(SUBWORDS);
+        decomposer = new CompoundDecomposer(hyphenator, dictionary);
+        cachedDecomposer = new CompoundDecomposer(hyphenator.withCache(1024), dictionary);
+        subwords = new HashSet<String>();
+        for (String subword : SUBWORDS) {
+            subwords.add(subword.toLowerCase(Locale.ROOT));
+        }
+        spans = new int[64];
+        breaks = new int[64];
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TOKENS)
+    public int decompose() {
+        return decompose(decomposer);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TOKENS)
+    public int decomposeCached() {
+        return decompose(cachedDecomposer);
+    }
+
+    private int decompose(CompoundDecomposer decomposer) {
+        int total = 0;
+        for (String token : tokens) {
+            total += decomposer.decompose(token, 0, token.length(), spans);
+        }
+        return total;
+    }
+
+    /**
+     * Hyphenates each token and recombines its syllables into strings that
+     * are looked up, with and without their last character.
+     */
+    @Benchmark
+    @OperationsPerInvocation(TOKENS)
+    public int hashSet() {
+        int total = 0;
+        for (String token : tokens) {
+            String word = token.toLowerCase(Locale.ROOT);
+            int points = hyphenator.hyphenationPoints(word, 0, word.length(), breaks);
+            for (int i = -1; i < points; i++) {
+                int from = i < 0 ? 0 : breaks[i];
+                for (int j = i + 1; j <= points; j++) {
+                    int to = j == points ? word.length() : breaks[j];
+                    if (from == 0 && to == word.length()) {
+                        continue;
+                    }
+                    String candidate = word.substring(from, to);
+                    if (subwords.contains(candidate)
+                            || subwords.contains(candidate.substring(0, candidate.length() - 1))) {
+                        total++;
+                    }
+                }
+            }
+        }
+        return total;
+    }
+}
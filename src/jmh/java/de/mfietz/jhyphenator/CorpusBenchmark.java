@@ -0,0 +1,82 @@
+package de.mfietz.jhyphenator;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Throughput over the multilingual word list in {@code words.txt}. One
+ * operation hyphenates the whole list.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CorpusBenchmark {
+
+    private Hyphenator[] hyphenators;
+    private String[] words;
+    private int[] breaks;
+
+    @Setup
+    public void setUp() throws IOException {
+        List<Hyphenator> hyphenatorList = new ArrayList<Hyphenator>();
+        List<String> wordList = new ArrayList<String>();
+        int maxLength = 0;
+        BufferedReader in = new BufferedReader(new InputStreamReader(
+                CorpusBenchmark.class.getResourceAsStream("words.txt"), "UTF-8"));
+        try {
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (line.length() == 0 || line.charAt(0) == '#') {
+                    continue;
+                }
+                int space = line.indexOf(' ');
+                String word = line.substring(space + 1);
+                hyphenatorList.add(Hyphenator.getInstance(
+                        HyphenationPattern.lookup(line.substring(0, space))));
+                wordList.add(word);
+                maxLength = Math.max(maxLength, word.length());
+            }
+        } finally {
+            in.close();
+        }
+        hyphenators = hyphenatorList.toArray(new Hyphenator[hyphenatorList.size()]);
+        words = wordList.toArray(new String[wordList.size()]);
+        breaks = new int[maxLength];
+    }
+
+    @Benchmark
+    public void hyphenate(Blackhole blackhole) {
+        for (int i = 0; i < words.length; i++) {
+            blackhole.consume(hyphenators[i].hyphenate(words[i]));
+        }
+    }
+
+    @Benchmark
+    public int hyphenationPoints() {
+        int total = 0;
+        for (int i = 0; i < words.length; i++) {
+            String word = words[i];
+            total += hyphenators[i].hyphenationPoints(word, 0, word.length(), breaks);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,54 @@
+package de.mfietz.jhyphenator;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Single-word latency for short, long and compound German words with every
+ * matching engine.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class HyphenateBenchmark {
+
+    @Param({ "Haus", "Bundespräsident", "Donaudampfschifffahrtsgesellschaftskapitän" })
+    public String word;
+
+    @Param
+    public MatchingEngine engine;
+
+    private Hyphenator hyphenator;
+    private int[] breaks;
+
+    @Setup
+    public void setUp() {
+        hyphenator = Hyphenator.getInstance(HyphenationPattern.DE).withEngine(engine);
+        breaks = new int[word.length()];
+    }
+
+    @Benchmark
+    public List<String> hyphenate() {
+        return hyphenator.hyphenate(word);
+    }
+
+    @Benchmark
+    public int hyphenationPoints() {
+        return hyphenator.hyphenationPoints(word, 0, word.length(), breaks);
+    }
+}
@@ -0,0 +1,73 @@
+package de.mfietz.jhyphenator;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of preparing a German paragraph of about 100 words, i.e. hyphenating
+ * and measuring it, against laying the prepared paragraph out again for
+ * another line width.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ParagraphBenchmark {
+
+    private static final String SENTENCE = "Der Schmetterling fliegt über die Kochschule, "
+            + "während der Donaudampfschifffahrtskapitän im Bundespräsidialamt eine Rede hält. ";
+
+    /** Narrow letters and spaces take half the width of the others. */
+    private static final WidthMeasurer PROPORTIONAL = new WidthMeasurer() {
+        @Override
+        public float width(CharSequence text, int start, int end) {
+            float width = 0;
+            for (int i = start; i < end; i++) {
+                char c = text.charAt(i);
+                width += c == ' ' || c == 'i' || c == 'l' || c == 't' || c == 'f' ? 0.5f : 1f;
+            }
+            return width;
+        }
+    };
+
+    @Param({ "30", "60" })
+    public float lineWidth;
+
+    private String text;
+    private ParagraphBreaker breaker;
+    private Paragraph paragraph;
+
+    @Setup
+    public void setUp() {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 8; i++) {
+            text.append(SENTENCE);
+        }
+        this.text = text.toString();
+        breaker = new ParagraphBreaker(Hyphenator.getInstance(HyphenationPattern.DE), PROPORTIONAL);
+        paragraph = breaker.prepare(this.text);
+    }
+
+    @Benchmark
+    public LineBreaks prepareAndLayout() {
+        return breaker.prepare(text).layout(lineWidth);
+    }
+
+    @Benchmark
+    public LineBreaks layout() {
+        return paragraph.layout(lineWidth);
+    }
+}
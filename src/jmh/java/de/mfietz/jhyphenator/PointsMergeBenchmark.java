@@ -0,0 +1,105 @@
+package de.mfietz.jhyphenator;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Merging pattern value vectors into the points of a word, one comparison
+ * per position on {@code int}s versus {@link PackedPoints} byte lanes with
+ * SWAR arithmetic or the JDK Vector API. The vectors have the lengths and
+ * values of typical pattern hits.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PointsMergeBenchmark {
+
+    private static final int HITS = 64;
+    private static final int WORD_LENGTH = 24;
+
+    private int[] starts;
+    private int[] offsets;
+    private int[] pool;
+    private int[] refs;
+    private long[] packed;
+    private int[] points;
+    private long[] packedPoints;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        starts = new int[HITS];
+        offsets = new int[HITS];
+        IntArrayList vectors = new IntArrayList();
+        for (int i = 0; i < HITS; i++) {
+            int length = 2 + random.nextInt(6);
+            starts[i] = random.nextInt(WORD_LENGTH - length);
+            offsets[i] = vectors.size();
+            vectors.add(length);
+            for (int k = 0; k < length; k++) {
+                vectors.add(random.nextInt(6));
+            }
+        }
+        pool = vectors.toArray();
+        refs = new int[HITS];
+        packed = PackedPoints.pack(offsets, pool, refs);
+        points = new int[WORD_LENGTH];
+        packedPoints = new long[PackedPoints.words(WORD_LENGTH)];
+    }
+
+    @Benchmark
+    public int[] scalar() {
+        int[] points = this.points;
+        // cleared for every word, as in the hyphenator
+        Arrays.fill(points, 0);
+        for (int i = 0; i < HITS; i++) {
+            int offset = offsets[i];
+            int end = offset + 1 + pool[offset];
+            for (int k = starts[i], p = offset + 1; p < end; k++, p++) {
+                if (pool[p] > points[k]) {
+                    points[k] = pool[p];
+                }
+            }
+        }
+        return points;
+    }
+
+    @Benchmark
+    public long[] swar() {
+        long[] points = packedPoints;
+        Arrays.fill(points, 0);
+        for (int i = 0; i < HITS; i++) {
+            PackedPoints.mergeSwar(points, starts[i], packed, refs[i]);
+        }
+        return points;
+    }
+
+    /**
+     * The merge used by the matchers, with the Vector API when run with
+     * {@code --add-modules jdk.incubator.vector} and the vector classes.
+     */
+    @Benchmark
+    public long[] packed() {
+        long[] points = packedPoints;
+        Arrays.fill(points, 0);
+        for (int i = 0; i < HITS; i++) {
+            PackedPoints.merge(points, starts[i], packed, refs[i]);
+        }
+        return points;
+    }
+}
@@ -0,0 +1,53 @@
+package de.mfietz.jhyphenator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cold construction of a hyphenator for every language, once from the pattern
+ * strings and once from the compiled trie.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TrieBuildBenchmark {
+
+    @Param
+    public HyphenationPattern pattern;
+
+    private byte[] compiled;
+
+    @Setup
+    public void setUp() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Hyphenator.compile(pattern).writeCompiled(out);
+        compiled = out.toByteArray();
+    }
+
+    @Benchmark
+    public Hyphenator buildFromPatterns() {
+        return Hyphenator.compile(pattern);
+    }
+
+    @Benchmark
+    public Hyphenator loadCompiled() {
+        return Hyphenator.load(ByteBuffer.wrap(compiled));
+    }
+}
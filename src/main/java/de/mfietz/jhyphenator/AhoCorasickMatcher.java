@@ -0,0 +1,121 @@
+package de.mfietz.jhyphenator;
+
+import java.io.Serializable;
+
+/**
+ * Aho-Corasick automaton over the hyphenation patterns.
+ * <p>
+ * The patterns are unfolded into a tree and every state gets a failure link
+ * to the state of its longest proper suffix. The values of all patterns that
+ * end in a state, including those reached through failure links, are merged
+ * into one output vector per state ahead of time. Matching is then a single
+ * left-to-right pass that merges at most one vector per character, instead of
+ * restarting the trie walk at every position.
+ */
+final class AhoCorasickMatcher implements PatternMatcher, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final PatternTrie goTo;
+    private final int[] failure;
+    private final int[] depth;
+    /** {@link PackedPoints} reference of the merged output of each state, -1 if none. */
+    private final int[] outputRef;
+    /** Output vectors packed by {@link PackedPoints#pack}. */
+    private final long[] outputPool;
+
+    private AhoCorasickMatcher(PatternTrie goTo, int[] failure, int[] depth, int[] outputRef,
+            long[] outputPool) {
+        this.goTo = goTo;
+        this.failure = failure;
+        this.depth = depth;
+        this.outputRef = outputRef;
+        this.outputPool = outputPool;
+    }
+
+    static AhoCorasickMatcher build(PatternTrie trie) {
+        // breadth-first numbering puts every state after its failure target
+        PatternTrie goTo = PatternTrie.flatten(trie.toTree(), false);
+        int stateCount = goTo.nodeCount();
+        int[] failure = new int[stateCount];
+        int[] depth = new int[stateCount];
+        for (int s = 0; s < stateCount; s++) {
+            for (int e = goTo.firstEdge(s); e < goTo.firstEdge(s + 1); e++) {
+                int child = goTo.edgeTarget(e);
+                depth[child] = depth[s] + 1;
+                if (s == PatternTrie.ROOT) {
+                    failure[child] = PatternTrie.ROOT;
+                    continue;
+                }
+                int label = goTo.edgeLabel(e);
+                int f = failure[s];
+                int next;
+                while ((next = goTo.child(f, label)) < 0 && f != PatternTrie.ROOT) {
+                    f = failure[f];
+                }
+                failure[child] = next >= 0 ? next : PatternTrie.ROOT;
+            }
+        }
+
+        // merge the own vector of each state with the output of its failure
+        // state, right-aligned since the failure state is a suffix
+        int[] outputOffset = new int[stateCount];
+        IntArrayList pool = new IntArrayList();
+        outputOffset[PatternTrie.ROOT] = -1;
+        for (int s = 1; s < stateCount; s++) {
+            int[] own = goTo.values(s);
+            int inherited = outputOffset[failure[s]];
+            if (own == null && inherited < 0) {
+                outputOffset[s] = -1;
+                continue;
+            }
+            int ownLength = own != null ? own.length : 0;
+            int shift = depth[s] - depth[failure[s]];
+            int inheritedLength = inherited >= 0 ? pool.get(inherited) : 0;
+            int[] merged = new int[Math.max(ownLength, shift + inheritedLength)];
+            for (int k = 0; k < ownLength; k++) {
+                merged[k] = own[k];
+            }
+            for (int k = 0; k < inheritedLength; k++) {
+                merged[shift + k] = Math.max(merged[shift + k], pool.get(inherited + 1 + k));
+            }
+            outputOffset[s] = pool.size();
+            pool.add(merged.length);
+            pool.addAll(merged);
+        }
+        int[] outputRef = new int[stateCount];
+        long[] packed = PackedPoints.pack(outputOffset, pool.toArray(), outputRef);
+        return new AhoCorasickMatcher(goTo, failure, depth, outputRef, packed);
+    }
+
+    @Override
+    public void match(int[] codePoints, int length, long[] points) {
+        final PatternTrie goTo = this.goTo;
+        final int[] failure = this.failure;
+        final int[] refs = outputRef;
+        final long[] pool = outputPool;
+        int state = PatternTrie.ROOT;
+        for (int j = 0; j < length; j++) {
+            int codePoint = codePoints[j];
+            int next;
+            while ((next = goTo.child(state, codePoint)) < 0 && state != PatternTrie.ROOT) {
+                state = failure[state];
+            }
+            state = next >= 0 ? next : PatternTrie.ROOT;
+            int ref = refs[state];
+            if (ref >= 0) {
+                // the vector starts at the first letter of the state's path
+                PackedPoints.merge(points, j + 1 - depth[state], pool, ref);
+            }
+        }
+    }
+
+    /**
+     * Returns the approximate heap size of this automaton in bytes.
+     */
+    long estimatedBytes() {
+        return 32 + goTo.estimatedBytes() + PatternTrie.arrayBytes(failure)
+                + PatternTrie.arrayBytes(depth) + PatternTrie.arrayBytes(outputRef)
+                + 16 + 8L * outputPool.length;
+    }
+}
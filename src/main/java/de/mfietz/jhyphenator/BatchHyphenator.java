@@ -0,0 +1,137 @@
+package de.mfietz.jhyphenator;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Hyphenates large batches of words in parallel on a {@link ForkJoinPool}.
+ * All workers share the immutable trie of one {@link Hyphenator} and write
+ * into disjoint ranges of a single result array, so the only per-word cost
+ * beyond the pattern matching is copying the points out of a per-task
+ * scratch buffer.
+ * <p>
+ * Instances are immutable and can be shared between threads.
+ */
+public final class BatchHyphenator {
+
+    /** Number of words below which a task is not split any further. */
+    private static final int SPLIT_THRESHOLD = 256;
+
+    private final Hyphenator hyphenator;
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a batch hyphenator running on a shared pool with one worker per
+     * processor.
+     *
+     * @param hyphenator hyphenator for the language of the words
+     */
+    public BatchHyphenator(Hyphenator hyphenator) {
+        this(hyphenator, DefaultPool.POOL);
+    }
+
+    /**
+     * @param hyphenator hyphenator for the language of the words
+     * @param pool pool running the hyphenation tasks
+     */
+    public BatchHyphenator(Hyphenator hyphenator, ForkJoinPool pool) {
+        this.hyphenator = hyphenator;
+        this.pool = pool;
+    }
+
+    /**
+     * Hyphenates every word of the list.
+     *
+     * @param words words to hyphenate
+     * @return hyphenation points, in the order of the words
+     */
+    public HyphenationBatch hyphenate(List<? extends CharSequence> words) {
+        return hyphenate(words.toArray(new CharSequence[words.size()]));
+    }
+
+    /**
+     * Hyphenates every word of the array.
+     *
+     * @param words words to hyphenate
+     * @return hyphenation points, in the order of the words
+     */
+    public HyphenationBatch hyphenate(CharSequence[] words) {
+        // a word of n characters has less than n points, so reserving n slots
+        // per word lets the tasks write without coordination
+        int[] slots = new int[words.length + 1];
+        for (int i = 0; i < words.length; i++) {
+            slots[i + 1] = slots[i] + words[i].length();
+        }
+        int[] points = new int[slots[words.length]];
+        int[] counts = new int[words.length];
+        pool.invoke(new HyphenateTask(hyphenator, words, slots, points, counts, 0, words.length));
+        return compact(slots, points, counts);
+    }
+
+    /**
+     * Moves the points of every word to the front of the result array.
+     */
+    static HyphenationBatch compact(int[] slots, int[] points, int[] counts) {
+        int[] starts = new int[counts.length + 1];
+        for (int i = 0; i < counts.length; i++) {
+            starts[i + 1] = starts[i] + counts[i];
+            System.arraycopy(points, slots[i], points, starts[i], counts[i]);
+        }
+        return new HyphenationBatch(starts, points);
+    }
+
+    private static final class HyphenateTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Hyphenator hyphenator;
+        private final CharSequence[] words;
+        private final int[] slots;
+        private final int[] points;
+        private final int[] counts;
+        private final int from;
+        private final int to;
+
+        HyphenateTask(Hyphenator hyphenator, CharSequence[] words, int[] slots, int[] points,
+                int[] counts, int from, int to) {
+            this.hyphenator = hyphenator;
+            this.words = words;
+            this.slots = slots;
+            this.points = points;
+            this.counts = counts;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > SPLIT_THRESHOLD) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new HyphenateTask(hyphenator, words, slots, points, counts, from, mid),
+                        new HyphenateTask(hyphenator, words, slots, points, counts, mid, to));
+                return;
+            }
+            int[] scratch = new int[64];
+            for (int i = from; i < to; i++) {
+                CharSequence word = words[i];
+                int length = word.length();
+                if (scratch.length < length) {
+                    scratch = new int[length];
+                }
+                int count = hyphenator.hyphenationPoints(word, 0, length, scratch);
+                System.arraycopy(scratch, 0, points, slots[i], count);
+                counts[i] = count;
+            }
+        }
+    }
+
+    /**
+     * Lazily created pool shared by all instances that are not given one,
+     * also used by {@link PatternGenerator}.
+     */
+    static final class DefaultPool {
+
+        static final ForkJoinPool POOL = new ForkJoinPool();
+    }
+}
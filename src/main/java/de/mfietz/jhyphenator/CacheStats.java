@@ -0,0 +1,72 @@
+package de.mfietz.jhyphenator;
+
+/**
+ * Snapshot of the counters of a hyphenation result cache.
+ *
+ * @see Hyphenator#withCache(int)
+ */
+public final class CacheStats {
+
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final int size;
+    private final int capacity;
+
+    CacheStats(long hitCount, long missCount, long evictionCount, int size, int capacity) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.size = size;
+        this.capacity = capacity;
+    }
+
+    /**
+     * @return number of lookups answered from the cache
+     */
+    public long hitCount() {
+        return hitCount;
+    }
+
+    /**
+     * @return number of lookups that had to run the pattern matcher
+     */
+    public long missCount() {
+        return missCount;
+    }
+
+    /**
+     * @return number of entries replaced to make room for new words
+     */
+    public long evictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * @return fraction of lookups answered from the cache, 0 if there were none
+     */
+    public double hitRate() {
+        long lookups = hitCount + missCount;
+        return lookups == 0 ? 0 : (double) hitCount / lookups;
+    }
+
+    /**
+     * @return number of cached words
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return maximum number of cached words
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats[hits=" + hitCount + ", misses=" + missCount + ", evictions="
+                + evictionCount + ", size=" + size + "/" + capacity + "]";
+    }
+}
@@ -0,0 +1,190 @@
+package de.mfietz.jhyphenator;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Splits compound words into the dictionary words they are made of, e.g. for
+ * a search index. Only the hyphenation points of a word are considered as
+ * component boundaries, so a word of {@code n} syllables needs at most
+ * {@code n * (n + 1) / 2} dictionary lookups instead of one per substring.
+ * <p>
+ * A component is a range between two boundaries that is in the dictionary,
+ * or that is in it without its last character, which covers linking
+ * elements such as the {@code s} in "Fahrts|kapitän". The word itself is not
+ * a component. Components are reported as start and end offsets in the
+ * order of their start, then end.
+ * <p>
+ * Decomposing allocates nothing per word; hashes of the candidates are
+ * extended one character at a time. Instances are immutable and can be
+ * shared between threads.
+ */
+public final class CompoundDecomposer {
+
+    public static final int DEFAULT_MIN_WORD_LENGTH = 5;
+    public static final int DEFAULT_MIN_SUBWORD_LENGTH = 2;
+    public static final int DEFAULT_MAX_SUBWORD_LENGTH = 15;
+
+    private static final ThreadLocal<int[]> BOUNDARIES = new ThreadLocal<int[]>() {
+        @Override
+        protected int[] initialValue() {
+            return new int[32];
+        }
+    };
+
+    private final Hyphenator hyphenator;
+    private final SubwordDictionary dictionary;
+    private final int minWordLength;
+    private final int minSubwordLength;
+    private final int maxSubwordLength;
+    private final boolean onlyLongestMatch;
+
+    /**
+     * @param hyphenator hyphenator for the language of the words
+     * @param dictionary the words components may be
+     */
+    public CompoundDecomposer(Hyphenator hyphenator, SubwordDictionary dictionary) {
+        this(hyphenator, dictionary, DEFAULT_MIN_WORD_LENGTH, DEFAULT_MIN_SUBWORD_LENGTH,
+                DEFAULT_MAX_SUBWORD_LENGTH, false);
+    }
+
+    /**
+     * @param hyphenator hyphenator for the language of the words
+     * @param dictionary the words components may be
+     * @param minWordLength length below which words are not decomposed
+     * @param minSubwordLength length of the shortest component
+     * @param maxSubwordLength length of the longest component
+     * @param onlyLongestMatch whether only the longest component starting at
+     *        each boundary is reported
+     */
+    public CompoundDecomposer(Hyphenator hyphenator, SubwordDictionary dictionary,
+            int minWordLength, int minSubwordLength, int maxSubwordLength,
+            boolean onlyLongestMatch) {
+        if (minSubwordLength < 1 || maxSubwordLength < minSubwordLength) {
+            throw new IllegalArgumentException("Invalid subword lengths: " + minSubwordLength
+                    + ", " + maxSubwordLength);
+        }
+        this.hyphenator = hyphenator;
+        this.dictionary = dictionary;
+        this.minWordLength = minWordLength;
+        this.minSubwordLength = minSubwordLength;
+        this.maxSubwordLength = maxSubwordLength;
+        this.onlyLongestMatch = onlyLongestMatch;
+    }
+
+    /**
+     * Finds the components of the word {@code text[start, end)} and writes
+     * each as a pair of offsets relative to {@code start} to {@code out}:
+     * the start of component {@code i} at {@code 2 * i}, its end at
+     * {@code 2 * i + 1}. If {@code out} is too short, the remaining
+     * components are dropped.
+     *
+     * @param text text containing the word
+     * @param start index of the first character of the word
+     * @param end index after the last character of the word
+     * @param out buffer receiving the component offsets
+     * @return number of components written to {@code out}
+     */
+    public int decompose(CharSequence text, int start, int end, int[] out) {
+        int length = end - start;
+        if (length < minWordLength || length < 2 * minSubwordLength) {
+            return 0;
+        }
+        int[] boundaries = BOUNDARIES.get();
+        if (boundaries.length < length + 1) {
+            boundaries = new int[Math.max(length + 1, boundaries.length * 2)];
+            BOUNDARIES.set(boundaries);
+        }
+        int points = hyphenator.hyphenationPoints(text, start, end, boundaries);
+        if (points == 0) {
+            return 0;
+        }
+        // frame the points with the word start and end
+        System.arraycopy(boundaries, 0, boundaries, 1, points);
+        boundaries[0] = 0;
+        boundaries[points + 1] = length;
+        int count = points + 2;
+
+        int components = 0;
+        for (int i = 0; i < count - 1 && 2 * components + 1 < out.length; i++) {
+            int from = boundaries[i];
+            int hash = 0;
+            int shorterHash = 0;
+            int position = from;
+            int longest = -1;
+            for (int j = i + 1; j < count; j++) {
+                int to = boundaries[j];
+                if (to - from > maxSubwordLength || from == 0 && to == length) {
+                    break;
+                }
+                for (; position < to; position++) {
+                    shorterHash = hash;
+                    hash = SubwordDictionary.next(hash, text.charAt(start + position));
+                }
+                int match = -1;
+                if (to - from >= minSubwordLength
+                        && dictionary.contains(text, start + from, start + to, hash)) {
+                    match = to;
+                } else if (to - from > minSubwordLength && to - 1 > boundaries[j - 1]
+                        && dictionary.contains(text, start + from, start + to - 1, shorterHash)) {
+                    match = to - 1;
+                }
+                if (match < 0) {
+                    continue;
+                }
+                if (onlyLongestMatch) {
+                    longest = match;
+                } else if (2 * components + 1 < out.length) {
+                    out[2 * components] = from;
+                    out[2 * components + 1] = match;
+                    components++;
+                }
+            }
+            if (longest >= 0) {
+                out[2 * components] = from;
+                out[2 * components + 1] = longest;
+                components++;
+            }
+        }
+        return components;
+    }
+
+    /**
+     * Decomposes every word of the list.
+     *
+     * @param words words to decompose
+     * @return components, in the order of the words
+     */
+    public Decompositions decompose(List<? extends CharSequence> words) {
+        return decompose(words.toArray(new CharSequence[words.size()]));
+    }
+
+    /**
+     * Decomposes every word of the array.
+     *
+     * @param words words to decompose
+     * @return components, in the order of the words
+     */
+    public Decompositions decompose(CharSequence[] words) {
+        int[] starts = new int[words.length + 1];
+        int[] spans = new int[Math.max(16, 2 * words.length)];
+        int[] out = new int[32];
+        int total = 0;
+        for (int i = 0; i < words.length; i++) {
+            CharSequence word = words[i];
+            int count = decompose(word, 0, word.length(), out);
+            while (2 * count >= out.length) {
+                // possibly truncated, retry with room for every span
+                out = new int[out.length * 2];
+                count = decompose(word, 0, word.length(), out);
+            }
+            if (2 * (total + count) > spans.length) {
+                spans = Arrays.copyOf(spans, Math.max(2 * (total + count), spans.length * 2));
+            }
+            System.arraycopy(out, 0, spans, 2 * total, 2 * count);
+            total += count;
+            starts[i + 1] = total;
+        }
+        return new Decompositions(starts, Arrays.copyOf(spans, 2 * total));
+    }
+}
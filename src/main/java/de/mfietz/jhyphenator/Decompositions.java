@@ -0,0 +1,72 @@
+package de.mfietz.jhyphenator;
+
+/**
+ * Components of a batch of compound words in compact form. The spans of all
+ * words are stored back to back in one array as start and end pairs;
+ * {@link #count(int)}, {@link #start(int, int)} and {@link #end(int, int)}
+ * give access to the components of a single word.
+ *
+ * @see CompoundDecomposer
+ */
+public final class Decompositions {
+
+    private final int[] starts;
+    private final int[] spans;
+
+    /**
+     * @param starts {@code size + 1} component indexes, the components of
+     *        word {@code i} are {@code [starts[i], starts[i + 1])}
+     * @param spans start and end offset of every component
+     */
+    Decompositions(int[] starts, int[] spans) {
+        this.starts = starts;
+        this.spans = spans;
+    }
+
+    /**
+     * @return number of words in the batch
+     */
+    public int size() {
+        return starts.length - 1;
+    }
+
+    /**
+     * @param word index of the word
+     * @return number of components of the word
+     */
+    public int count(int word) {
+        return starts[word + 1] - starts[word];
+    }
+
+    /**
+     * @param word index of the word
+     * @param index index of the component, less than {@link #count(int)}
+     * @return offset of the first character of the component in the word
+     */
+    public int start(int word, int index) {
+        return spans[2 * component(word, index)];
+    }
+
+    /**
+     * @param word index of the word
+     * @param index index of the component, less than {@link #count(int)}
+     * @return offset after the last character of the component in the word
+     */
+    public int end(int word, int index) {
+        return spans[2 * component(word, index) + 1];
+    }
+
+    private int component(int word, int index) {
+        if (index < 0 || index >= count(word)) {
+            throw new IndexOutOfBoundsException("Index " + index + ", count " + count(word));
+        }
+        return starts[word] + index;
+    }
+
+    /**
+     * @return total number of components in the batch
+     */
+    public int totalCount() {
+        return starts[starts.length - 1];
+    }
+}
@@ -0,0 +1,285 @@
+package de.mfietz.jhyphenator;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Immutable table of hyphenation exceptions, the equivalent of TeX's
+ * {@code \hyphenation{...}} list, e.g. {@code "ta-ble"}.
+ * <p>
+ * The lowercased words are stored back to back in one {@code char[]} and their
+ * break offsets in one {@code int[]}. An open-addressing table of entry
+ * indexes, probed linearly, finds a word in constant time without creating a
+ * key object: the word is hashed and compared case-insensitively in place.
+ * Case is folded per code point, as for the patterns, which keeps the number
+ * of chars of every word.
+ */
+final class ExceptionTable {
+
+    /** Entry index + 1 per slot, 0 for empty slots. */
+    private final int[] slots;
+    private final int[] hashes;
+    private final int[] wordStart;
+    private final char[] words;
+    private final int[] breakStart;
+    private final int[] breaks;
+
+    private ExceptionTable(int[] slots, int[] hashes, int[] wordStart, char[] words,
+            int[] breakStart, int[] breaks) {
+        this.slots = slots;
+        this.hashes = hashes;
+        this.wordStart = wordStart;
+        this.words = words;
+        this.breakStart = breakStart;
+        this.breaks = breaks;
+    }
+
+    /**
+     * Builds a table from words with hyphens at the allowed break points.
+     * Later entries for the same word replace earlier ones.
+     */
+    static ExceptionTable build(Collection<? extends CharSequence> hyphenatedWords) {
+        int entries = hyphenatedWords.size();
+        int capacity = 2;
+        while (capacity < entries * 2) {
+            capacity <<= 1;
+        }
+        int totalLength = 0;
+        for (CharSequence word : hyphenatedWords) {
+            totalLength += word.length();
+        }
+
+        int[] slots = new int[capacity];
+        int[] hashes = new int[entries];
+        int[] wordStart = new int[entries + 1];
+        char[] words = new char[totalLength];
+        int[] breakStart = new int[entries + 1];
+        int[] breaks = new int[totalLength];
+        CharBuffer wordBuffer = CharBuffer.wrap(words);
+        int count = 0;
+        int wordEnd = 0;
+        int breakEnd = 0;
+        for (CharSequence hyphenated : hyphenatedWords) {
+            int start = wordEnd;
+            int firstBreak = breakEnd;
+            for (int i = 0; i < hyphenated.length(); ) {
+                int codePoint = lowerCodePointAt(hyphenated, i, hyphenated.length());
+                if (codePoint == '-') {
+                    if (wordEnd > start && (breakEnd == firstBreak
+                            || breaks[breakEnd - 1] != wordEnd - start)) {
+                        breaks[breakEnd++] = wordEnd - start;
+                    }
+                    i++;
+                } else {
+                    int chars = Character.toChars(codePoint, words, wordEnd);
+                    wordEnd += chars;
+                    i += chars;
+                }
+            }
+            // a trailing hyphen is not a break point
+            if (breakEnd > firstBreak && breaks[breakEnd - 1] == wordEnd - start) {
+                breakEnd--;
+            }
+            int hash = hash(words, start, wordEnd);
+            int slot = probe(slots, hashes, wordStart, words, hash, wordBuffer, start, wordEnd);
+            // a repeated word takes over the slot of its earlier entry
+            slots[slot < 0 ? ~slot : slot] = count + 1;
+            hashes[count] = hash;
+            wordStart[count] = start;
+            wordStart[count + 1] = wordEnd;
+            breakStart[count] = firstBreak;
+            breakStart[count + 1] = breakEnd;
+            count++;
+        }
+        return new ExceptionTable(slots, hashes, wordStart, Arrays.copyOf(words, wordEnd),
+                breakStart, Arrays.copyOf(breaks, breakEnd));
+    }
+
+    /**
+     * Looks up the word {@code text[start, end)} and writes its break offsets
+     * that leave at least {@code leftMin} and {@code rightMin} characters to
+     * {@code out}.
+     *
+     * @return number of offsets written, or -1 if the word is no exception
+     */
+    int get(CharSequence text, int start, int end, int leftMin, int rightMin, int[] out) {
+        int hash = 0;
+        for (int i = start; i < end; ) {
+            int codePoint = lowerCodePointAt(text, i, end);
+            if (Character.isBmpCodePoint(codePoint)) {
+                hash = 31 * hash + codePoint;
+                i++;
+            } else {
+                hash = 31 * (31 * hash + Character.highSurrogate(codePoint))
+                        + Character.lowSurrogate(codePoint);
+                i += 2;
+            }
+        }
+        int slot = probe(slots, hashes, wordStart, words, spread(hash), text, start, end);
+        if (slot < 0) {
+            return -1;
+        }
+        int entry = slots[slot] - 1;
+        int length = end - start;
+        int count = 0;
+        for (int b = breakStart[entry]; b < breakStart[entry + 1] && count < out.length; b++) {
+            int offset = breaks[b];
+            if (offset >= leftMin && offset <= length - rightMin && offset > 0 && offset < length) {
+                out[count++] = offset;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the slot holding the word, or the complement of the empty slot
+     * where it would be inserted.
+     */
+    private static int probe(int[] slots, int[] hashes, int[] wordStart, char[] words, int hash,
+            CharSequence text, int start, int end) {
+        int mask = slots.length - 1;
+        int slot = hash & mask;
+        for (; slots[slot] != 0; slot = (slot + 1) & mask) {
+            int entry = slots[slot] - 1;
+            if (hashes[entry] == hash && equalsIgnoreCase(words, wordStart[entry],
+                    wordStart[entry + 1], text, start, end)) {
+                return slot;
+            }
+        }
+        return ~slot;
+    }
+
+    private static boolean equalsIgnoreCase(char[] words, int from, int to, CharSequence text,
+            int start, int end) {
+        if (to - from != end - start) {
+            return false;
+        }
+        for (int i = from; i < to; ) {
+            int codePoint = lowerCodePointAt(text, start + i - from, end);
+            if (Character.isBmpCodePoint(codePoint)) {
+                if (words[i++] != codePoint) {
+                    return false;
+                }
+            } else if (words[i++] != Character.highSurrogate(codePoint)
+                    || words[i++] != Character.lowSurrogate(codePoint)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the lowercased code point at {@code index}, or the char there
+     * if it is not a surrogate pair ending before {@code end}.
+     */
+    private static int lowerCodePointAt(CharSequence text, int index, int end) {
+        char high = text.charAt(index);
+        if (Character.isHighSurrogate(high) && index + 1 < end) {
+            char low = text.charAt(index + 1);
+            if (Character.isLowSurrogate(low)) {
+                return Character.toLowerCase(Character.toCodePoint(high, low));
+            }
+        }
+        return Character.toLowerCase(high);
+    }
+
+    private static int hash(char[] word, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + word[i];
+        }
+        return spread(hash);
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    void write(DataOutput out) throws IOException {
+        PatternTrie.writeInts(out, slots);
+        PatternTrie.writeInts(out, hashes);
+        PatternTrie.writeInts(out, wordStart);
+        out.writeInt(words.length);
+        for (char c : words) {
+            out.writeChar(c);
+        }
+        PatternTrie.writeInts(out, breakStart);
+        PatternTrie.writeInts(out, breaks);
+    }
+
+    static ExceptionTable read(DataInput in) throws IOException {
+        int[] slots = PatternTrie.readInts(in);
+        int[] hashes = PatternTrie.readInts(in);
+        int[] wordStart = PatternTrie.readInts(in);
+        int length = in.readInt();
+        if (length < 0) {
+            throw new IOException("Negative array length " + length);
+        }
+        char[] words = new char[length];
+        for (int i = 0; i < length; i++) {
+            words[i] = in.readChar();
+        }
+        int[] breakStart = PatternTrie.readInts(in);
+        int[] breaks = PatternTrie.readInts(in);
+        if (!isValid(slots, hashes.length, wordStart, words.length, breakStart, breaks)) {
+            throw new IOException("Corrupt exception table");
+        }
+        return new ExceptionTable(slots, hashes, wordStart, words, breakStart, breaks);
+    }
+
+    /**
+     * Returns whether the arrays form a table that {@link #get} can probe
+     * without looping forever or indexing out of bounds.
+     */
+    private static boolean isValid(int[] slots, int entries, int[] wordStart, int wordsLength,
+            int[] breakStart, int[] breaks) {
+        if (Integer.bitCount(slots.length) != 1 || wordStart.length != entries + 1
+                || breakStart.length != entries + 1) {
+            return false;
+        }
+        // probing stops at the first empty slot
+        boolean empty = false;
+        for (int slot : slots) {
+            if (slot < 0 || slot > entries) {
+                return false;
+            }
+            empty |= slot == 0;
+        }
+        if (!empty || !isRanges(wordStart, wordsLength) || !isRanges(breakStart, breaks.length)) {
+            return false;
+        }
+        for (int entry = 0; entry < entries; entry++) {
+            int length = wordStart[entry + 1] - wordStart[entry];
+            for (int b = breakStart[entry]; b < breakStart[entry + 1]; b++) {
+                if (breaks[b] <= 0 || breaks[b] >= length) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether {@code starts} never decreases and stays within
+     * {@code [0, length]}.
+     */
+    private static boolean isRanges(int[] starts, int length) {
+        int previous = 0;
+        for (int start : starts) {
+            if (start < previous || start > length) {
+                return false;
+            }
+            previous = start;
+        }
+        return true;
+    }
+
+    /** Number of entries, counting repeated words once per occurrence. */
+    int size() {
+        return hashes.length;
+    }
+}
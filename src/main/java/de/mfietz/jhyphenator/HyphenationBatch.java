@@ -0,0 +1,68 @@
+package de.mfietz.jhyphenator;
+
+import java.util.Arrays;
+
+/**
+ * Hyphenation points of a batch of words in compact form. The points of all
+ * words are stored back to back in one array; {@link #count(int)} and
+ * {@link #get(int, int)} give access to the points of a single word.
+ *
+ * @see BatchHyphenator
+ */
+public final class HyphenationBatch {
+
+    private final int[] starts;
+    private final int[] points;
+
+    /**
+     * @param starts {@code size + 1} offsets into {@code points}, the points
+     *        of word {@code i} are at {@code [starts[i], starts[i + 1])}
+     * @param points hyphenation points of all words
+     */
+    HyphenationBatch(int[] starts, int[] points) {
+        this.starts = starts;
+        this.points = points;
+    }
+
+    /**
+     * @return number of words in the batch
+     */
+    public int size() {
+        return starts.length - 1;
+    }
+
+    /**
+     * @param word index of the word
+     * @return number of hyphenation points of the word
+     */
+    public int count(int word) {
+        return starts[word + 1] - starts[word];
+    }
+
+    /**
+     * @param word index of the word
+     * @param index index of the point, less than {@link #count(int)}
+     * @return offset of the character following the hyphenation point
+     */
+    public int get(int word, int index) {
+        if (index < 0 || index >= count(word)) {
+            throw new IndexOutOfBoundsException("Index " + index + ", count " + count(word));
+        }
+        return points[starts[word] + index];
+    }
+
+    /**
+     * @param word index of the word
+     * @return copy of the hyphenation points of the word
+     */
+    public int[] toArray(int word) {
+        return Arrays.copyOfRange(points, starts[word], starts[word + 1]);
+    }
+
+    /**
+     * @return total number of hyphenation points in the batch
+     */
+    public int totalCount() {
+        return starts[starts.length - 1];
+    }
+}
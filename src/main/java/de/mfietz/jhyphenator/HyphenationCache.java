@@ -0,0 +1,175 @@
+package de.mfietz.jhyphenator;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded cache of hyphenation results keyed by the case-folded word.
+ * <p>
+ * The cache is a set-associative table: a word hashes to a set of
+ * {@link #WAYS} slots and is evicted by a CLOCK sweep over that set only.
+ * Reads are lock-free and slots are replaced with a single compare-and-set,
+ * so threads never wait for each other. The break offsets of a word are
+ * stored as a bit mask, which limits cached words to
+ * {@link #MAX_WORD_LENGTH} characters; longer words are not cached.
+ */
+final class HyphenationCache {
+
+    static final int MAX_WORD_LENGTH = 64;
+
+    private static final int WAYS = 4;
+
+    private static final int HITS = 0;
+    private static final int MISSES = 1;
+    private static final int EVICTIONS = 2;
+
+    private final AtomicReferenceArray<Entry> slots;
+    private final int setMask;
+    private final StripedCounter counters = new StripedCounter(3);
+
+    HyphenationCache(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+        }
+        int sets = 1;
+        while (sets * WAYS < maximumSize) {
+            sets <<= 1;
+        }
+        this.slots = new AtomicReferenceArray<Entry>(sets * WAYS);
+        this.setMask = sets - 1;
+    }
+
+    int capacity() {
+        return slots.length();
+    }
+
+    /**
+     * Looks up the word {@code text[start, end)} and writes its cached break
+     * offsets to {@code out}.
+     *
+     * @return number of offsets written, or -1 if the word is not cached
+     */
+    int get(CharSequence text, int start, int end, int[] out) {
+        if (end - start > MAX_WORD_LENGTH) {
+            return -1;
+        }
+        int hash = hash(text, start, end);
+        int base = (hash & setMask) * WAYS;
+        for (int i = 0; i < WAYS; i++) {
+            Entry entry = slots.get(base + i);
+            if (entry != null && entry.hash == hash && entry.matches(text, start, end)) {
+                if (!entry.referenced) {
+                    entry.referenced = true;
+                }
+                counters.increment(HITS);
+                return decode(entry.breaks, out);
+            }
+        }
+        counters.increment(MISSES);
+        return -1;
+    }
+
+    /**
+     * Caches the {@code count} break offsets in {@code breaks} for the word
+     * {@code text[start, end)}.
+     */
+    void put(CharSequence text, int start, int end, int[] breaks, int count) {
+        if (end - start > MAX_WORD_LENGTH) {
+            return;
+        }
+        long mask = 0;
+        for (int i = 0; i < count; i++) {
+            mask |= 1L << breaks[i];
+        }
+        int hash = hash(text, start, end);
+        Entry entry = new Entry(hash, text.subSequence(start, end).toString(), mask);
+        int base = (hash & setMask) * WAYS;
+        // CLOCK sweep over the set: take a free slot or the first entry that
+        // was not referenced since the last sweep, clearing bits on the way
+        int victim = -1;
+        for (int pass = 0; pass < 2 && victim < 0; pass++) {
+            for (int i = 0; i < WAYS; i++) {
+                Entry current = slots.get(base + i);
+                if (current == null || !current.referenced) {
+                    victim = base + i;
+                    break;
+                }
+                current.referenced = false;
+            }
+        }
+        Entry evicted = slots.get(victim);
+        if (slots.compareAndSet(victim, evicted, entry) && evicted != null) {
+            counters.increment(EVICTIONS);
+        }
+    }
+
+    CacheStats stats() {
+        int size = 0;
+        for (int i = 0; i < slots.length(); i++) {
+            if (slots.get(i) != null) {
+                size++;
+            }
+        }
+        return new CacheStats(counters.sum(HITS), counters.sum(MISSES), counters.sum(EVICTIONS),
+                size, slots.length());
+    }
+
+    /**
+     * Returns the approximate heap size of the table and its entries in bytes.
+     */
+    long estimatedBytes() {
+        long bytes = 64 + 16 + 4L * slots.length();
+        for (int i = 0; i < slots.length(); i++) {
+            Entry entry = slots.get(i);
+            if (entry != null) {
+                // the entry, the word and its chars
+                bytes += 40 + 24 + 16 + 2L * entry.word.length();
+            }
+        }
+        return bytes;
+    }
+
+    private static int decode(long mask, int[] out) {
+        int count = 0;
+        while (mask != 0 && count < out.length) {
+            out[count++] = Long.numberOfTrailingZeros(mask);
+            mask &= mask - 1;
+        }
+        return count;
+    }
+
+    private static int hash(CharSequence text, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + Character.toLowerCase(text.charAt(i));
+        }
+        // spread the bits used for the set index
+        return hash ^ (hash >>> 16);
+    }
+
+    private static final class Entry {
+
+        final int hash;
+        final String word;
+        final long breaks;
+        volatile boolean referenced;
+
+        Entry(int hash, String word, long breaks) {
+            this.hash = hash;
+            this.word = word;
+            this.breaks = breaks;
+        }
+
+        boolean matches(CharSequence text, int start, int end) {
+            if (word.length() != end - start) {
+                return false;
+            }
+            for (int i = 0; i < word.length(); i++) {
+                if (Character.toLowerCase(word.charAt(i))
+                        != Character.toLowerCase(text.charAt(start + i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -1,10 +1,32 @@
 package de.mfietz.jhyphenator;
 
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.Externalizable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.OutputStream;
 import java.io.Serializable;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * Hyphenator.java is an highly optimized adaptation of parts from Mathew
@@ -16,20 +38,77 @@ public class Hyphenator implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
-    private static final HashMap<HyphenationPattern, Hyphenator> cached;
+    /** Magic number at the start of a compiled trie ("JHYT"). */
+    static final int COMPILED_MAGIC = 0x4A485954;
 
-    static {
-        cached = new HashMap<HyphenationPattern, Hyphenator>();
-    }
+    /** Version of the compiled trie layout, bumped on every format change. */
+    static final int COMPILED_VERSION = 2;
+
+    /**
+     * Offset of the checksum of the pattern source in a compiled trie, after
+     * the magic number, version, leftMin and rightMin.
+     */
+    private static final int COMPILED_CHECKSUM_OFFSET = 16;
+
+    /** Version of the serialized form written by {@link SerializedForm}. */
+    private static final int SERIALIZED_VERSION = 1;
 
-    private TrieNode trie;
+    /** Classpath directory of the tries compiled at build time. */
+    static final String COMPILED_RESOURCE_DIR = "tries/";
+
+    private static final ThreadLocal<Scratch> SCRATCH = new ThreadLocal<Scratch>() {
+        @Override
+        protected Scratch initialValue() {
+            return new Scratch();
+        }
+    };
+
+    private PatternTrie trie;
+    private PatternMatcher matcher;
+    private MatchingEngine engine = MatchingEngine.TRIE;
     private int leftMin;
     private int rightMin;
+    private long buildTimeNanos;
+    private ExceptionTable exceptions;
+    private transient HyphenationCache cache;
+    private final transient MetricsHolder metrics;
+    private transient volatile PatternTrie utf8Trie;
 
     private Hyphenator(HyphenationPattern pattern) {
-        this.trie = createTrie(pattern.patterns);
+        long startTime = System.nanoTime();
+        PatternTrie compiled = loadCompiledTrie(pattern);
+        this.trie = compiled != null ? compiled : createTrie(pattern.patterns);
+        this.matcher = trie;
         this.leftMin = pattern.leftMin;
         this.rightMin = pattern.rightMin;
+        this.metrics = new MetricsHolder();
+        this.buildTimeNanos = System.nanoTime() - startTime;
+    }
+
+    private Hyphenator(PatternTrie trie, int leftMin, int rightMin) {
+        this(trie, leftMin, rightMin, new MetricsHolder());
+    }
+
+    private Hyphenator(PatternTrie trie, int leftMin, int rightMin, MetricsHolder metrics) {
+        this.trie = trie;
+        this.matcher = trie;
+        this.leftMin = leftMin;
+        this.rightMin = rightMin;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Copies {@code hyphenator} for a {@code with*} method, sharing its
+     * metrics.
+     */
+    private Hyphenator(Hyphenator hyphenator) {
+        this(hyphenator.trie, hyphenator.leftMin, hyphenator.rightMin, hyphenator.metrics);
+        this.matcher = hyphenator.matcher;
+        this.engine = hyphenator.engine;
+        this.buildTimeNanos = hyphenator.buildTimeNanos;
+        this.exceptions = hyphenator.exceptions;
+        this.cache = hyphenator.cache;
+        this.utf8Trie = hyphenator.utf8Trie;
     }
 
     /**
@@ -39,66 +118,451 @@ public class Hyphenator implements Serializable {
      * @return newly created or cached hyphenator instance
      */
     public static Hyphenator getInstance(HyphenationPattern hyphenationPattern) {
-        synchronized (cached) {
-            if (!cached.containsKey(hyphenationPattern)) {
-                cached.put(hyphenationPattern, new Hyphenator(hyphenationPattern));
-                return cached.get(hyphenationPattern);
+        int index = hyphenationPattern.ordinal();
+        Hyphenator hyphenator = Registry.CACHED.get(index);
+        if (hyphenator != null) {
+            return hyphenator;
+        }
+        // concurrent first requests for one language build it only once,
+        // other languages are not blocked
+        synchronized (Registry.LOCKS[index]) {
+            hyphenator = Registry.CACHED.get(index);
+            if (hyphenator == null) {
+                hyphenator = new Hyphenator(hyphenationPattern);
+                Registry.CACHED.set(index, hyphenator);
+                if (Registry.mbeansRegistered) {
+                    try {
+                        HyphenatorMBeans.register(hyphenationPattern, hyphenator);
+                    } catch (IllegalStateException e) {
+                        // the caller asked for a hyphenator, not for JMX
+                        Logger.getLogger(Hyphenator.class.getName()).log(Level.WARNING,
+                                e.getMessage(), e);
+                    }
+                }
             }
+            return hyphenator;
+        }
+    }
 
-            return cached.get(hyphenationPattern);
+    /**
+     * Returns a hyphenator for a given hyphenation pattern that builds its
+     * trie lazily. Creating it only indexes the patterns by their first
+     * character; the part of the trie for a character is built when a word
+     * first contains it. This saves startup time and memory for languages of
+     * which only a few words are hyphenated, at a small cost on the first
+     * words. The output is the same as for
+     * {@link #getInstance(HyphenationPattern)}.
+     *
+     * @param hyphenationPattern hyphenation language pattern
+     * @return newly created or cached lazy hyphenator instance
+     */
+    public static Hyphenator getLazyInstance(HyphenationPattern hyphenationPattern) {
+        int index = hyphenationPattern.ordinal();
+        Hyphenator hyphenator = Registry.LAZY.get(index);
+        if (hyphenator != null) {
+            return hyphenator;
+        }
+        synchronized (Registry.LOCKS[index]) {
+            hyphenator = Registry.LAZY.get(index);
+            if (hyphenator == null) {
+                long startTime = System.nanoTime();
+                hyphenator = new Hyphenator(null, hyphenationPattern.leftMin,
+                        hyphenationPattern.rightMin);
+                hyphenator.matcher = new LazyPatternTrie(hyphenationPattern.patterns);
+                hyphenator.buildTimeNanos = System.nanoTime() - startTime;
+                Registry.LAZY.set(index, hyphenator);
+            }
+            return hyphenator;
         }
     }
 
-    private static TrieNode createTrie(Map<Integer, String> patternObject) {
-        TrieNode t, tree = new TrieNode();
+    /**
+     * Returns a hyphenator that shares the patterns of this instance and
+     * remembers the results of up to {@code maximumSize} words. Since a small
+     * set of words makes up most of any real text, this saves the pattern
+     * matching for most calls. Words differing only in case share an entry,
+     * words longer than 64 characters are never cached. Metrics are shared
+     * with this instance, see {@link #stats()}.
+     *
+     * @param maximumSize maximum number of cached words, rounded up to a
+     *        power of two
+     * @return new hyphenator with a result cache
+     */
+    public Hyphenator withCache(int maximumSize) {
+        Hyphenator hyphenator = new Hyphenator(this);
+        hyphenator.cache = new HyphenationCache(maximumSize);
+        return hyphenator;
+    }
 
-        for (Map.Entry<Integer, String> entry : patternObject.entrySet()) {
-            int key = entry.getKey();
-            String value = entry.getValue();
-            String[] patterns = new String[value.length() / key];
-            for (int i = 0; i + key <= value.length(); i = i + key) {
-                patterns[i / key] = value.substring(i, i + key);
+    /**
+     * Returns a hyphenator that shares the patterns and cache of this
+     * instance but finds matching patterns with the given engine. The output
+     * is the same for every engine. The trie of a lazy instance is built
+     * completely. The automaton of {@link MatchingEngine#AHO_CORASICK} is
+     * built once per set of patterns and shared by all instances using it.
+     * Metrics are shared with this instance, see {@link #stats()}.
+     *
+     * @param engine pattern matching algorithm
+     * @return new hyphenator using the engine
+     */
+    public Hyphenator withEngine(MatchingEngine engine) {
+        Hyphenator hyphenator = new Hyphenator(this);
+        hyphenator.engine = engine;
+        hyphenator.trie = trie();
+        switch (engine) {
+        case AHO_CORASICK:
+            hyphenator.matcher = hyphenator.trie.ahoCorasick();
+            break;
+        default:
+            hyphenator.matcher = hyphenator.trie;
+            break;
+        }
+        return hyphenator;
+    }
+
+    /**
+     * Returns a hyphenator that shares the patterns of this instance but
+     * breaks the given words only where they are hyphenated, like TeX's
+     * {@code \hyphenation} list. Words are matched ignoring case, e.g.
+     * {@code "ta-ble"} also applies to "Table", and a word without hyphens is
+     * never broken. The exceptions replace any of this instance, and a result
+     * cache is replaced by an empty one of the same size. Metrics are shared
+     * with this instance, see {@link #stats()}.
+     *
+     * @param hyphenatedWords words with a hyphen at every allowed break
+     * @return new hyphenator using the exceptions
+     */
+    public Hyphenator withExceptions(Collection<String> hyphenatedWords) {
+        Hyphenator hyphenator = new Hyphenator(this);
+        hyphenator.exceptions = ExceptionTable.build(hyphenatedWords);
+        if (cache != null) {
+            hyphenator.cache = new HyphenationCache(cache.capacity());
+        }
+        return hyphenator;
+    }
+
+    /**
+     * Returns the hit, miss and eviction counters of the result cache.
+     *
+     * @return cache statistics, or {@code null} if this instance has no cache
+     * @see #withCache(int)
+     */
+    public CacheStats cacheStats() {
+        return cache != null ? cache.stats() : null;
+    }
+
+    /**
+     * Returns the size and construction cost of this hyphenator and, if
+     * metrics are enabled, its usage. The usage is recorded together for this
+     * instance and all instances derived from it with {@link #withCache},
+     * {@link #withEngine} and {@link #withExceptions}, and from those in turn,
+     * so the instance of {@link #getInstance(HyphenationPattern)} also counts
+     * the calls to its derived instances.
+     *
+     * @return statistics snapshot
+     */
+    public HyphenatorStats stats() {
+        HyphenatorMetrics metrics = this.metrics.current;
+        int nodeCount;
+        int patternCount;
+        int maxDepth;
+        long estimatedBytes;
+        if (trie != null) {
+            nodeCount = trie.nodeCount();
+            patternCount = trie.patternCount();
+            maxDepth = trie.maxDepth();
+            estimatedBytes = trie.estimatedBytes();
+        } else {
+            // lazy instance, only report what has been built so far
+            LazyPatternTrie lazy = (LazyPatternTrie) matcher;
+            nodeCount = lazy.nodeCount();
+            patternCount = lazy.patternCount();
+            maxDepth = lazy.maxDepth();
+            estimatedBytes = lazy.estimatedBytes();
+        }
+        PatternTrie utf8Trie = this.utf8Trie;
+        if (utf8Trie != null) {
+            estimatedBytes += utf8Trie.estimatedBytes();
+        }
+        if (cache != null) {
+            estimatedBytes += cache.estimatedBytes();
+        }
+        return new HyphenatorStats(nodeCount, patternCount, maxDepth, estimatedBytes,
+                buildTimeNanos,
+                metrics != null ? metrics.calls() : 0,
+                metrics != null ? metrics.characters() : 0,
+                metrics != null ? metrics.latencyHistogram() : new long[HyphenatorMetrics.BUCKETS]);
+    }
+
+    /**
+     * Enables or disables recording of call counts, processed characters and
+     * latencies for {@link #stats()}. Disabling discards the recorded values.
+     * The setting applies to all instances sharing the metrics of this one.
+     *
+     * @param enabled whether to record metrics
+     */
+    public void setMetricsEnabled(boolean enabled) {
+        synchronized (metrics) {
+            if (enabled && metrics.current == null) {
+                metrics.current = new HyphenatorMetrics();
+            } else if (!enabled) {
+                metrics.current = null;
             }
-            for (int i = 0; i < patterns.length; i++) {
-                String pattern = patterns[i];
-                t = tree;
+        }
+    }
 
-                for (int c = 0; c < pattern.length(); c++) {
-                    char chr = pattern.charAt(c);
-                    if (Character.isDigit(chr)) {
-                        continue;
-                    }
-                    int codePoint = pattern.codePointAt(c);
-                    if (t.codePoint.get(codePoint) == null) {
-                        t.codePoint.put(codePoint, new TrieNode());
-                    }
-                    t = t.codePoint.get(codePoint);
+    /**
+     * @return whether metrics are recorded
+     * @see #setMetricsEnabled(boolean)
+     */
+    public boolean isMetricsEnabled() {
+        return metrics.current != null;
+    }
+
+    /**
+     * Returns the statistics of all hyphenators created by
+     * {@link #getInstance(HyphenationPattern)} so far.
+     *
+     * @return statistics by pattern
+     */
+    public static Map<HyphenationPattern, HyphenatorStats> loadedStats() {
+        Map<HyphenationPattern, HyphenatorStats> stats =
+                new EnumMap<HyphenationPattern, HyphenatorStats>(HyphenationPattern.class);
+        HyphenationPattern[] patterns = HyphenationPattern.values();
+        for (int i = 0; i < patterns.length; i++) {
+            Hyphenator hyphenator = Registry.CACHED.get(i);
+            if (hyphenator != null) {
+                stats.put(patterns[i], hyphenator.stats());
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * Registers a {@link HyphenatorStatsMXBean} with the platform MBean
+     * server for every hyphenator created by
+     * {@link #getInstance(HyphenationPattern)}, including those created
+     * later.
+     */
+    public static void registerMBeans() {
+        // set first: an instance created after its slot has been scanned then
+        // registers itself, and one created before is found by the scan
+        Registry.mbeansRegistered = true;
+        HyphenationPattern[] patterns = HyphenationPattern.values();
+        for (int i = 0; i < patterns.length; i++) {
+            synchronized (Registry.LOCKS[i]) {
+                Hyphenator hyphenator = Registry.CACHED.get(i);
+                if (hyphenator != null) {
+                    HyphenatorMBeans.register(patterns[i], hyphenator);
                 }
+            }
+        }
+    }
 
-                IntArrayList list = new IntArrayList();
-                int digitStart = -1;
-                for (int p = 0; p < pattern.length(); p++) {
-                    if (Character.isDigit(pattern.charAt(p))) {
-                        if (digitStart < 0) {
-                            digitStart = p;
-                        }
-                        if(p == pattern.length()-1) {
-                            // last number in the pattern
-                            String number = pattern.substring(digitStart, pattern.length());
-                            list.add(Integer.valueOf(number));
-                        }
-                    } else if (digitStart >= 0) {
-                        String number = pattern.substring(digitStart, p);
-                        list.add(Integer.valueOf(number));
-                        digitStart = -1;
-                    } else {
-                        list.add(0);
-                    }
+    /**
+     * Reads a hyphenator from a compiled trie as written by
+     * {@link #writeCompiled(OutputStream)}, starting at the current position
+     * of the buffer. The returned instance is not cached.
+     *
+     * @param buffer buffer holding the compiled trie
+     * @return hyphenator backed by the compiled trie
+     * @throws IllegalArgumentException if the buffer does not hold a compiled
+     *         trie of the supported version
+     */
+    public static Hyphenator load(ByteBuffer buffer) {
+        try {
+            if (buffer.getInt() != COMPILED_MAGIC) {
+                throw new IllegalArgumentException("Not a compiled hyphenation trie");
+            }
+            int version = buffer.getInt();
+            if (version != COMPILED_VERSION) {
+                throw new IllegalArgumentException("Unsupported compiled trie version " + version);
+            }
+            int leftMin = buffer.getInt();
+            int rightMin = buffer.getInt();
+            buffer.getLong(); // source checksum
+            long startTime = System.nanoTime();
+            Hyphenator hyphenator = new Hyphenator(PatternTrie.read(buffer), leftMin, rightMin);
+            hyphenator.buildTimeNanos = System.nanoTime() - startTime;
+            return hyphenator;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated compiled hyphenation trie", e);
+        } catch (IllegalArgumentException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Corrupt compiled hyphenation trie", e);
+        }
+    }
+
+    /**
+     * Memory-maps a compiled trie file as written by
+     * {@link #writeCompiled(OutputStream)} and reads a hyphenator from it. The
+     * returned instance is not cached.
+     *
+     * @param file compiled trie file
+     * @return hyphenator backed by the compiled trie
+     * @throws IOException if the file cannot be read
+     */
+    public static Hyphenator load(File file) throws IOException {
+        FileInputStream in = new FileInputStream(file);
+        try {
+            FileChannel channel = in.getChannel();
+            return load(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Writes the trie of this hyphenator in the versioned binary form read by
+     * {@link #load(ByteBuffer)}.
+     *
+     * @param out stream to write to, left open
+     * @throws IOException if writing fails
+     */
+    public void writeCompiled(OutputStream out) throws IOException {
+        writeCompiled(out, 0);
+    }
+
+    /**
+     * Writes the compiled trie, recording the checksum of the patterns it was
+     * built from so that {@link #getInstance(HyphenationPattern)} can tell
+     * whether it is stale.
+     */
+    void writeCompiled(OutputStream out, long sourceChecksum) throws IOException {
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+        data.writeInt(COMPILED_MAGIC);
+        data.writeInt(COMPILED_VERSION);
+        data.writeInt(leftMin);
+        data.writeInt(rightMin);
+        data.writeLong(sourceChecksum);
+        trie().write(data);
+        data.flush();
+    }
+
+    /**
+     * Builds a hyphenator from the patterns of {@code pattern}, ignoring any
+     * compiled trie on the classpath.
+     */
+    static Hyphenator compile(HyphenationPattern pattern) {
+        return new Hyphenator(createTrie(pattern.patterns), pattern.leftMin, pattern.rightMin);
+    }
+
+    static String compiledResourceName(HyphenationPattern pattern) {
+        return COMPILED_RESOURCE_DIR + pattern.name().toLowerCase(Locale.ENGLISH) + ".trie";
+    }
+
+    /**
+     * Returns the trie compiled for {@code pattern} at build time, or
+     * {@code null} if it is missing or of another version, e.g. when running
+     * from the compiled classes only. The build recompiles the tries whenever
+     * the patterns change, so the pattern source is not read here. The trie is
+     * read once into a buffer of its size; mapping it would take longer for a
+     * file this small in a fresh JVM.
+     */
+    private static PatternTrie loadCompiledTrie(HyphenationPattern pattern) {
+        InputStream in = Hyphenator.class.getResourceAsStream(compiledResourceName(pattern));
+        if (in == null) {
+            return null;
+        }
+        try {
+            Hyphenator compiled;
+            try {
+                compiled = load(readFully(in));
+            } finally {
+                in.close();
+            }
+            if (compiled.leftMin != pattern.leftMin || compiled.rightMin != pattern.rightMin) {
+                return null;
+            }
+            return compiled.trie;
+        } catch (IOException e) {
+            return null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns whether {@code compiled} holds a trie of the current version
+     * built from the current patterns of {@code pattern}. Reads the whole
+     * pattern source, which is why only {@link TrieCompiler} checks it.
+     */
+    static boolean isCurrent(ByteBuffer compiled, HyphenationPattern pattern) {
+        return compiled.remaining() >= COMPILED_CHECKSUM_OFFSET + 8
+                && compiled.getInt(compiled.position() + 4) == COMPILED_VERSION
+                && compiled.getLong(compiled.position() + COMPILED_CHECKSUM_OFFSET)
+                        == pattern.sourceChecksum();
+    }
+
+    /**
+     * Reads {@code in} into a buffer. Files and jar entries report their size
+     * as available, so their bytes are copied only once.
+     */
+    private static ByteBuffer readFully(InputStream in) throws IOException {
+        byte[] bytes = new byte[Math.max(in.available(), 8192)];
+        int length = 0;
+        while (true) {
+            if (length == bytes.length) {
+                int next = in.read();
+                if (next < 0) {
+                    break;
                 }
-                t.points = list.toArray();
+                bytes = Arrays.copyOf(bytes, 2 * length);
+                bytes[length++] = (byte) next;
+            }
+            int read = in.read(bytes, length, bytes.length - length);
+            if (read < 0) {
+                break;
             }
+            length += read;
         }
-        return tree;
+        return ByteBuffer.wrap(bytes, 0, length);
+    }
+
+    private static PatternTrie createTrie(Map<Integer, String> patternObject) {
+        TrieBuilder builder = new TrieBuilder();
+        for (Map.Entry<Integer, String> entry : patternObject.entrySet()) {
+            int key = entry.getKey();
+            String value = entry.getValue();
+            for (int i = 0; i + key <= value.length(); i = i + key) {
+                builder.add(value, i, i + key);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns the complete trie, building it first for a lazy instance.
+     */
+    private PatternTrie trie() {
+        return trie != null ? trie : ((LazyPatternTrie) matcher).fullTrie();
+    }
+
+    /**
+     * Creates an uncached hyphenator from patterns in the format of
+     * {@link HyphenationPattern#patterns}, e.g. as trained by
+     * {@link PatternGenerator}.
+     *
+     * @param patterns pattern strings by length
+     * @param leftMin minimum number of characters before the first hyphen
+     * @param rightMin minimum number of characters after the last hyphen
+     * @return a hyphenator using the patterns
+     */
+    public static Hyphenator create(Map<Integer, String> patterns, int leftMin, int rightMin) {
+        long startTime = System.nanoTime();
+        PatternTrie trie = createTrie(patterns);
+        return create(trie, leftMin, rightMin, System.nanoTime() - startTime);
+    }
+
+    /**
+     * Creates an uncached hyphenator from a trie that is not tied to a
+     * {@link HyphenationPattern}.
+     */
+    static Hyphenator create(PatternTrie trie, int leftMin, int rightMin, long buildTimeNanos) {
+        Hyphenator hyphenator = new Hyphenator(trie, leftMin, rightMin);
+        hyphenator.buildTimeNanos = buildTimeNanos;
+        return hyphenator;
     }
 
     /**
@@ -109,50 +573,456 @@ public class Hyphenator implements Serializable {
      * @return list of syllables
      */
     public List<String> hyphenate(String word) {
-        word = "_" + word + "_";
-
-        String lowercase = word.toLowerCase();
-
-        int wordLength = lowercase.length();
-        int[] points = new int[wordLength];
-        int[] characterPoints = new int[wordLength];
-        for (int i = 0; i < wordLength; i++) {
-            points[i] = 0;
-            characterPoints[i] = lowercase.codePointAt(i);
-        }
-
-        TrieNode node, trie = this.trie;
-        int[] nodePoints;
-        for (int i = 0; i < wordLength; i++) {
-            node = trie;
-            for (int j = i; j < wordLength; j++) {
-                node = node.codePoint.get(characterPoints[j]);
-                if (node != null) {
-                    nodePoints = node.points;
-                    if (nodePoints != null) {
-                        for (int k = 0, nodePointsLength = nodePoints.length;
-                             k < nodePointsLength; k++) {
-                            points[i + k] = Math.max(points[i + k], nodePoints[k]);
-                        }
-                    }
-                } else {
-                    break;
+        return hyphenate(word, 0, word.length());
+    }
+
+    /**
+     * Returns the syllables of the word {@code text[start, end)}, e.g. a
+     * slice of a {@link java.nio.CharBuffer} or {@link StringBuilder}, without
+     * copying the word first. Case is folded per code point independently of
+     * the default locale.
+     *
+     * @param text text containing the word
+     * @param start index of the first character of the word
+     * @param end index after the last character of the word
+     * @return list of syllables
+     */
+    public List<String> hyphenate(CharSequence text, int start, int end) {
+        int[] breaks = new int[Math.max(0, end - start - 1)];
+        int count = hyphenationPoints(text, start, end, breaks);
+
+        List<String> result = new ArrayList<String>(count + 1);
+        int syllableStart = start;
+        for (int i = 0; i < count; i++) {
+            result.add(text.subSequence(syllableStart, start + breaks[i]).toString());
+            syllableStart = start + breaks[i];
+        }
+        if (syllableStart < end) {
+            result.add(text.subSequence(syllableStart, end).toString());
+        }
+        return result;
+    }
+
+    /**
+     * Returns the syllables of the word {@code text[offset, offset + length)}.
+     *
+     * @param text characters containing the word
+     * @param offset index of the first character of the word
+     * @param length number of characters of the word
+     * @return list of syllables
+     * @see #hyphenate(CharSequence, int, int)
+     */
+    public List<String> hyphenate(char[] text, int offset, int length) {
+        return hyphenate(CharBuffer.wrap(text), offset, offset + length);
+    }
+
+    /**
+     * Computes the hyphenation points of the word
+     * {@code text[offset, offset + length)}, relative to {@code offset}.
+     *
+     * @param text characters containing the word
+     * @param offset index of the first character of the word
+     * @param length number of characters of the word
+     * @param out buffer receiving the hyphenation points
+     * @return number of points written to {@code out}
+     * @see #hyphenationPoints(CharSequence, int, int, int[])
+     */
+    public int hyphenationPoints(char[] text, int offset, int length, int[] out) {
+        return hyphenationPoints(CharBuffer.wrap(text), offset, offset + length, out);
+    }
+
+    /**
+     * Computes the points at which the word {@code text[start, end)} can be
+     * broken with a hyphen without allocating. Each point is written to
+     * {@code out} as the offset of the character following the break,
+     * relative to {@code start}, in ascending order. A word of {@code n}
+     * characters has at most {@code n - 1} points; if {@code out} is shorter,
+     * the remaining points are dropped.
+     * <p>
+     * Case is folded per code point with {@link Character#toLowerCase(int)},
+     * so the result does not depend on the default locale; an upper case
+     * {@code I} is matched as {@code i} even under a Turkish locale.
+     *
+     * @param text text containing the word
+     * @param start index of the first character of the word
+     * @param end index after the last character of the word
+     * @param out buffer receiving the hyphenation points
+     * @return number of points written to {@code out}
+     */
+    public int hyphenationPoints(CharSequence text, int start, int end, int[] out) {
+        HyphenatorMetrics metrics = this.metrics.current;
+        if (metrics == null) {
+            return computePoints(text, start, end, out);
+        }
+        long startTime = System.nanoTime();
+        int count = computePoints(text, start, end, out);
+        metrics.record(end - start, System.nanoTime() - startTime);
+        return count;
+    }
+
+    private int computePoints(CharSequence text, int start, int end, int[] out) {
+        if (exceptions != null) {
+            int count = exceptions.get(text, start, end, leftMin, rightMin, out);
+            if (count >= 0) {
+                return count;
+            }
+        }
+        HyphenationCache cache = this.cache;
+        if (cache != null) {
+            int cached = cache.get(text, start, end, out);
+            if (cached >= 0) {
+                return cached;
+            }
+        }
+
+        // the word is framed by '_' markers, as the patterns expect
+        Scratch scratch = SCRATCH.get();
+        int[] characterPoints = scratch.characterPoints(end - start + 2);
+        int[] offsets = null;
+        characterPoints[0] = '_';
+        int k = 1;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                characterPoints[k++] = c >= 'A' && c <= 'Z' ? c + ('a' - 'A') : c;
+            } else if (!Character.isSurrogate(c)) {
+                characterPoints[k++] = Character.toLowerCase(c);
+            } else {
+                // outside the BMP, one code point spans two chars
+                offsets = scratch.offsets(end - start + 1);
+                k = decode(text, start, end, characterPoints, offsets);
+                break;
+            }
+        }
+        characterPoints[k] = '_';
+        int wordLength = k + 1;
+        long[] points = scratch.points(PackedPoints.words(wordLength));
+
+        matcher.match(characterPoints, wordLength, points);
+
+        // odd values allow a break, test eight positions at a time
+        int count = 0;
+        int first = this.leftMin + 1;
+        int last = Math.min(wordLength - 1, wordLength - this.rightMin);
+        for (int w = first >>> 3; w << 3 < last && count < out.length; w++) {
+            long odd = points[w] & PackedPoints.ODD_BITS;
+            while (odd != 0 && count < out.length) {
+                int i = w << 3 | Long.numberOfTrailingZeros(odd) >>> 3;
+                odd &= odd - 1;
+                if (i >= first && i < last) {
+                    out[count++] = offsets == null ? i - 1 : offsets[i];
                 }
             }
         }
+        // only cache complete results
+        if (cache != null && out.length >= end - start - 1) {
+            cache.put(text, start, end, out, count);
+        }
+        return count;
+    }
 
-        List<String> result = new ArrayList<String>();
-        int start = 1;
-        for (int i = 1; i < wordLength - 1; i++) {
-            if (i > this.leftMin && i < (wordLength - this.rightMin) && points[i] % 2 > 0) {
-                result.add(word.substring(start, i));
-                start = i;
+    /**
+     * Decodes the lowercased code points of {@code text[start, end)} into
+     * {@code codePoints} from index 1 on and records the char offset of each,
+     * relative to {@code start}, at the same index of {@code offsets}.
+     *
+     * @return index after the last code point
+     */
+    private static int decode(CharSequence text, int start, int end, int[] codePoints,
+            int[] offsets) {
+        int k = 1;
+        for (int i = start; i < end; k++) {
+            int codePoint = codePointAt(text, i, end);
+            codePoints[k] = Character.toLowerCase(codePoint);
+            offsets[k] = i - start;
+            i += Character.charCount(codePoint);
+        }
+        return k;
+    }
+
+    private static int codePointAt(CharSequence text, int index, int end) {
+        char high = text.charAt(index);
+        if (Character.isHighSurrogate(high) && index + 1 < end) {
+            char low = text.charAt(index + 1);
+            if (Character.isLowSurrogate(low)) {
+                return Character.toCodePoint(high, low);
             }
         }
-        if (start < word.length() - 1) {
-            result.add(word.substring(start, word.length() - 1));
+        return high;
+    }
+
+    /**
+     * Computes the hyphenation points of the UTF-8 encoded word
+     * {@code utf8[start, end)}, e.g. a slice of a
+     * {@link java.nio.MappedByteBuffer} over a file, without decoding it to
+     * chars. Each point is written to {@code out} as the byte offset of the
+     * character following the break, relative to {@code start}, in ascending
+     * order. The position and limit of {@code utf8} are not used or changed.
+     * <p>
+     * The word is matched against a trie keyed by UTF-8 bytes, built from the
+     * same patterns on the first call. Case is folded as in
+     * {@link #hyphenationPoints(CharSequence, int, int, int[])}; malformed
+     * bytes count as one character each and match no pattern. Results are not
+     * cached.
+     *
+     * @param utf8 buffer containing the word
+     * @param start index of the first byte of the word
+     * @param end index after the last byte of the word
+     * @param out buffer receiving the hyphenation points
+     * @return number of points written to {@code out}
+     */
+    public int hyphenationPoints(ByteBuffer utf8, int start, int end, int[] out) {
+        HyphenatorMetrics metrics = this.metrics.current;
+        if (metrics == null) {
+            return computePoints(utf8, start, end, out);
+        }
+        long startTime = System.nanoTime();
+        int count = computePoints(utf8, start, end, out);
+        metrics.record(end - start, System.nanoTime() - startTime);
+        return count;
+    }
+
+    private int computePoints(ByteBuffer utf8, int start, int end, int[] out) {
+        PatternTrie utf8Trie = this.utf8Trie;
+        if (utf8Trie == null) {
+            // racing threads build equal tries, any of them may be kept
+            utf8Trie = trie().toUtf8();
+            this.utf8Trie = utf8Trie;
+        }
+        Scratch scratch = SCRATCH.get();
+        // folding can turn two bytes into three, e.g. U+023A into U+2C65
+        int[] bytes = scratch.characterPoints(2 * (end - start) + 2);
+        int[] offsets = scratch.offsets(end - start + 1);
+        int[] positions = scratch.positions(end - start + 1);
+        StringBuilder word = exceptions != null ? scratch.word() : null;
+        bytes[0] = '_';
+        int k = 1;
+        int chars = 0;
+        for (int i = start; i < end; chars++) {
+            offsets[chars] = i - start;
+            positions[chars] = k;
+            int lead = utf8.get(i) & 0xFF;
+            if (lead < 0x80) {
+                bytes[k++] = lead >= 'A' && lead <= 'Z' ? lead + ('a' - 'A') : lead;
+                i++;
+                if (word != null) {
+                    word.append((char) lead);
+                }
+                continue;
+            }
+            int length = Utf8.length(lead);
+            int codePoint = Utf8.decode(utf8, i, length, end);
+            if (codePoint < 0) {
+                bytes[k++] = Utf8.INVALID_BYTE;
+                i++;
+                if (word != null) {
+                    word.append('\uFFFD');
+                }
+                continue;
+            }
+            int lower = Character.toLowerCase(codePoint);
+            if (lower == codePoint) {
+                for (int j = 0; j < length; j++) {
+                    bytes[k++] = utf8.get(i + j) & 0xFF;
+                }
+            } else {
+                k = Utf8.encode(lower, bytes, k);
+            }
+            i += length;
+            if (word != null) {
+                word.appendCodePoint(codePoint);
+            }
+        }
+        bytes[k] = '_';
+        int wordLength = k + 1;
+
+        if (word != null) {
+            int count = exceptions.get(word, 0, word.length(), leftMin, rightMin, out);
+            if (count >= 0) {
+                // exceptions break between chars, map them to byte offsets
+                for (int b = 0; b < count; b++) {
+                    out[b] = offsets[word.codePointCount(0, out[b])];
+                }
+                return count;
+            }
+        }
+
+        long[] points = scratch.points(PackedPoints.words(wordLength));
+        utf8Trie.match(bytes, wordLength, points);
+
+        // values are kept at the first byte of each character
+        int count = 0;
+        int last = Math.min(chars - 1, chars - rightMin);
+        for (int c = leftMin; c <= last && count < out.length; c++) {
+            if ((PackedPoints.get(points, positions[c]) & 1) != 0) {
+                out[count++] = offsets[c];
+            }
+        }
+        return count;
+    }
+
+    private Object writeReplace() {
+        return new SerializedForm(this);
+    }
+
+    private void readObject(ObjectInputStream in) throws InvalidObjectException {
+        throw new InvalidObjectException("Hyphenators are read through their serialized form");
+    }
+
+    /**
+     * Serialized form of a hyphenator: a version header, the settings and the
+     * flat trie arrays packed by {@link PatternTrie#writePacked}. Reading it
+     * allocates each array once and involves no recursion, and
+     * derived structures such as the Aho-Corasick automaton and the cache are
+     * rebuilt rather than shipped.
+     */
+    private static final class SerializedForm implements Externalizable {
+
+        private static final long serialVersionUID = 1L;
+
+        private Hyphenator hyphenator;
+
+        public SerializedForm() {
+        }
+
+        SerializedForm(Hyphenator hyphenator) {
+            this.hyphenator = hyphenator;
+        }
+
+        @Override
+        public void writeExternal(ObjectOutput out) throws IOException {
+            Hyphenator h = hyphenator;
+            out.writeInt(COMPILED_MAGIC);
+            out.writeInt(SERIALIZED_VERSION);
+            out.writeInt(h.leftMin);
+            out.writeInt(h.rightMin);
+            out.writeLong(h.buildTimeNanos);
+            out.writeByte(h.engine.ordinal());
+            out.writeInt(h.cache != null ? h.cache.capacity() : 0);
+            out.writeBoolean(h.isMetricsEnabled());
+            out.writeBoolean(h.exceptions != null);
+            if (h.exceptions != null) {
+                h.exceptions.write(out);
+            }
+            h.trie().writePacked(out);
+        }
+
+        @Override
+        public void readExternal(ObjectInput in) throws IOException {
+            if (in.readInt() != COMPILED_MAGIC) {
+                throw new InvalidObjectException("Not a serialized hyphenator");
+            }
+            int version = in.readInt();
+            if (version != SERIALIZED_VERSION) {
+                throw new InvalidObjectException("Unsupported serialized version " + version);
+            }
+            int leftMin = in.readInt();
+            int rightMin = in.readInt();
+            long buildTimeNanos = in.readLong();
+            int engine = in.readByte();
+            int cacheSize = in.readInt();
+            boolean metricsEnabled = in.readBoolean();
+            ExceptionTable exceptions = in.readBoolean() ? ExceptionTable.read(in) : null;
+            MatchingEngine[] engines = MatchingEngine.values();
+            if (engine < 0 || engine >= engines.length) {
+                throw new InvalidObjectException("Unknown matching engine " + engine);
+            }
+
+            Hyphenator h = new Hyphenator(PatternTrie.readPacked(in), leftMin, rightMin);
+            h.buildTimeNanos = buildTimeNanos;
+            h.exceptions = exceptions;
+            if (cacheSize > 0) {
+                h.cache = new HyphenationCache(cacheSize);
+            }
+            if (engines[engine] != MatchingEngine.TRIE) {
+                h = h.withEngine(engines[engine]);
+            }
+            h.setMetricsEnabled(metricsEnabled);
+            hyphenator = h;
+        }
+
+        private Object readResolve() {
+            return hyphenator;
+        }
+    }
+
+    /**
+     * Cached eager and lazy instances indexed by
+     * {@link HyphenationPattern#ordinal()}. Held in a nested class so it is
+     * only set up on the first lookup.
+     */
+    private static final class Registry {
+
+        static final AtomicReferenceArray<Hyphenator> CACHED;
+        static final AtomicReferenceArray<Hyphenator> LAZY;
+        static final Object[] LOCKS;
+        static volatile boolean mbeansRegistered;
+
+        static {
+            int languages = HyphenationPattern.values().length;
+            CACHED = new AtomicReferenceArray<Hyphenator>(languages);
+            LAZY = new AtomicReferenceArray<Hyphenator>(languages);
+            LOCKS = new Object[languages];
+            for (int i = 0; i < languages; i++) {
+                LOCKS[i] = new Object();
+            }
+        }
+    }
+
+    /**
+     * The metrics of a hyphenator and the instances derived from it, or
+     * {@code null} while disabled.
+     */
+    private static final class MetricsHolder {
+
+        volatile HyphenatorMetrics current;
+    }
+
+    /**
+     * Per-thread buffers reused by {@link #hyphenationPoints}.
+     */
+    private static final class Scratch {
+
+        private int[] characterPoints = new int[32];
+        private long[] points = new long[16];
+        private int[] offsets = new int[32];
+        private int[] positions = new int[32];
+        private final StringBuilder word = new StringBuilder();
+
+        int[] characterPoints(int length) {
+            if (characterPoints.length < length) {
+                characterPoints = new int[Math.max(length, characterPoints.length * 2)];
+            }
+            return characterPoints;
+        }
+
+        int[] offsets(int length) {
+            if (offsets.length < length) {
+                offsets = new int[Math.max(length, offsets.length * 2)];
+            }
+            return offsets;
+        }
+
+        int[] positions(int length) {
+            if (positions.length < length) {
+                positions = new int[Math.max(length, positions.length * 2)];
+            }
+            return positions;
+        }
+
+        StringBuilder word() {
+            word.setLength(0);
+            return word;
+        }
+
+        long[] points(int length) {
+            if (points.length < length) {
+                points = new long[Math.max(length, points.length * 2)];
+            } else {
+                Arrays.fill(points, 0, length, 0);
+            }
+            return points;
         }
-        return result;
     }
 
 }
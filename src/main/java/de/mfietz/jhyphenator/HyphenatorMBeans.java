@@ -0,0 +1,90 @@
+package de.mfietz.jhyphenator;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Registers {@link HyphenatorStatsMXBean}s with the platform MBean server.
+ * Kept apart from {@link Hyphenator} so that JMX classes are only loaded when
+ * MBeans are requested.
+ */
+final class HyphenatorMBeans {
+
+    private HyphenatorMBeans() {
+    }
+
+    static void register(HyphenationPattern pattern, Hyphenator hyphenator) {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName name = new ObjectName(
+                    "de.mfietz.jhyphenator:type=Hyphenator,language=" + pattern.name());
+            if (!server.isRegistered(name)) {
+                server.registerMBean(new Stats(hyphenator), name);
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot register MBean for " + pattern, e);
+        }
+    }
+
+    private static final class Stats implements HyphenatorStatsMXBean {
+
+        private final Hyphenator hyphenator;
+
+        Stats(Hyphenator hyphenator) {
+            this.hyphenator = hyphenator;
+        }
+
+        @Override
+        public int getNodeCount() {
+            return hyphenator.stats().nodeCount();
+        }
+
+        @Override
+        public int getPatternCount() {
+            return hyphenator.stats().patternCount();
+        }
+
+        @Override
+        public int getMaxDepth() {
+            return hyphenator.stats().maxDepth();
+        }
+
+        @Override
+        public long getEstimatedBytes() {
+            return hyphenator.stats().estimatedBytes();
+        }
+
+        @Override
+        public long getBuildTimeNanos() {
+            return hyphenator.stats().buildTimeNanos();
+        }
+
+        @Override
+        public long getCallCount() {
+            return hyphenator.stats().callCount();
+        }
+
+        @Override
+        public long getCharacterCount() {
+            return hyphenator.stats().characterCount();
+        }
+
+        @Override
+        public long[] getLatencyHistogram() {
+            return hyphenator.stats().latencyHistogram();
+        }
+
+        @Override
+        public boolean isMetricsEnabled() {
+            return hyphenator.isMetricsEnabled();
+        }
+
+        @Override
+        public void setMetricsEnabled(boolean enabled) {
+            hyphenator.setMetricsEnabled(enabled);
+        }
+    }
+}
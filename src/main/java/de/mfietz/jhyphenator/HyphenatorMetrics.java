@@ -0,0 +1,40 @@
+package de.mfietz.jhyphenator;
+
+/**
+ * Call counters and latency histogram of one {@link Hyphenator}. Bucket
+ * {@code i} of the histogram counts calls that took between {@code 2^i} and
+ * {@code 2^(i+1)} nanoseconds, the last bucket also counts all slower calls.
+ */
+final class HyphenatorMetrics {
+
+    static final int BUCKETS = 32;
+
+    private static final int CALLS = 0;
+    private static final int CHARACTERS = 1;
+    private static final int FIRST_BUCKET = 2;
+
+    private final StripedCounter counters = new StripedCounter(FIRST_BUCKET + BUCKETS);
+
+    void record(int characters, long nanos) {
+        counters.increment(CALLS);
+        counters.add(CHARACTERS, characters);
+        int bucket = nanos <= 1 ? 0 : 63 - Long.numberOfLeadingZeros(nanos);
+        counters.increment(FIRST_BUCKET + Math.min(bucket, BUCKETS - 1));
+    }
+
+    long calls() {
+        return counters.sum(CALLS);
+    }
+
+    long characters() {
+        return counters.sum(CHARACTERS);
+    }
+
+    long[] latencyHistogram() {
+        long[] histogram = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            histogram[i] = counters.sum(FIRST_BUCKET + i);
+        }
+        return histogram;
+    }
+}
@@ -0,0 +1,102 @@
+package de.mfietz.jhyphenator;
+
+/**
+ * Snapshot of the size, construction cost and usage of a {@link Hyphenator}.
+ * The usage counters stay at zero unless metrics are enabled with
+ * {@link Hyphenator#setMetricsEnabled(boolean)}.
+ *
+ * @see Hyphenator#stats()
+ */
+public final class HyphenatorStats {
+
+    private final int nodeCount;
+    private final int patternCount;
+    private final int maxDepth;
+    private final long estimatedBytes;
+    private final long buildTimeNanos;
+    private final long callCount;
+    private final long characterCount;
+    private final long[] latencyHistogram;
+
+    HyphenatorStats(int nodeCount, int patternCount, int maxDepth, long estimatedBytes,
+            long buildTimeNanos, long callCount, long characterCount, long[] latencyHistogram) {
+        this.nodeCount = nodeCount;
+        this.patternCount = patternCount;
+        this.maxDepth = maxDepth;
+        this.estimatedBytes = estimatedBytes;
+        this.buildTimeNanos = buildTimeNanos;
+        this.callCount = callCount;
+        this.characterCount = characterCount;
+        this.latencyHistogram = latencyHistogram;
+    }
+
+    /**
+     * @return number of nodes of the pattern trie
+     */
+    public int nodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * @return number of patterns in the trie
+     */
+    public int patternCount() {
+        return patternCount;
+    }
+
+    /**
+     * @return number of letters of the longest pattern
+     */
+    public int maxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * @return estimated number of bytes retained by the pattern trie and, once
+     *         built, by its Aho-Corasick automaton, the UTF-8 trie and the
+     *         result cache
+     */
+    public long estimatedBytes() {
+        return estimatedBytes;
+    }
+
+    /**
+     * @return time it took to build or load the pattern trie
+     */
+    public long buildTimeNanos() {
+        return buildTimeNanos;
+    }
+
+    /**
+     * @return number of words hyphenated while metrics were enabled
+     */
+    public long callCount() {
+        return callCount;
+    }
+
+    /**
+     * @return total length of the words hyphenated while metrics were enabled
+     */
+    public long characterCount() {
+        return characterCount;
+    }
+
+    /**
+     * Returns the latency histogram of the calls recorded while metrics were
+     * enabled. Bucket {@code i} counts calls that took at least {@code 2^i}
+     * and less than {@code 2^(i+1)} nanoseconds; the last bucket also counts
+     * all slower calls.
+     *
+     * @return copy of the histogram buckets
+     */
+    public long[] latencyHistogram() {
+        return latencyHistogram.clone();
+    }
+
+    @Override
+    public String toString() {
+        return "HyphenatorStats[nodes=" + nodeCount + ", patterns=" + patternCount + ", maxDepth="
+                + maxDepth + ", bytes=" + estimatedBytes + ", buildTimeNanos=" + buildTimeNanos
+                + ", calls=" + callCount + ", characters=" + characterCount + "]";
+    }
+}
@@ -0,0 +1,29 @@
+package de.mfietz.jhyphenator;
+
+/**
+ * JMX view of the {@link HyphenatorStats} of a cached hyphenator, registered
+ * by {@link Hyphenator#registerMBeans()} under
+ * {@code de.mfietz.jhyphenator:type=Hyphenator,language=<pattern>}.
+ */
+public interface HyphenatorStatsMXBean {
+
+    int getNodeCount();
+
+    int getPatternCount();
+
+    int getMaxDepth();
+
+    long getEstimatedBytes();
+
+    long getBuildTimeNanos();
+
+    long getCallCount();
+
+    long getCharacterCount();
+
+    long[] getLatencyHistogram();
+
+    boolean isMetricsEnabled();
+
+    void setMetricsEnabled(boolean enabled);
+}
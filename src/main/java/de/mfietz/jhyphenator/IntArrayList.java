@@ -25,6 +25,27 @@ public class IntArrayList {
         size++;
     }
 
+    public void addAll(int[] array) {
+        if (size + array.length > values.length) {
+            int[] newValues = new int[Math.max(size + array.length, values.length * 2)];
+            System.arraycopy(values, 0, newValues, 0, size);
+            values = newValues;
+        }
+        System.arraycopy(array, 0, values, size, array.length);
+        size += array.length;
+    }
+
+    public int get(int index) {
+        if (index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + ", size " + size);
+        }
+        return values[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
     public int[] toArray() {
         int[] result = new int[size];
         System.arraycopy(values, 0, result, 0, size);
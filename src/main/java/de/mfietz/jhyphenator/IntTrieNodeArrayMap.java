@@ -37,9 +37,10 @@ public class IntTrieNodeArrayMap implements Serializable {
             return oldValue;
         }
         if (size == keys.length) {
-            final int[] newKeys = new int[size == 0 ? DEFAULT_INITIAL_CAPACITY : size * 2];
+            final int newCapacity = size == 0 ? 2 : size * 2;
+            final int[] newKeys = new int[newCapacity];
             System.arraycopy(keys, 0, newKeys, 0, size);
-            final TrieNode[] newValues = new TrieNode[size == 0 ? 2 : size * 2];
+            final TrieNode[] newValues = new TrieNode[newCapacity];
             System.arraycopy(values, 0, newValues, 0, size);
             keys = newKeys;
             values = newValues;
@@ -50,6 +51,18 @@ public class IntTrieNodeArrayMap implements Serializable {
         return null;
     }
 
+    int size() {
+        return size;
+    }
+
+    int keyAt(final int index) {
+        return keys[index];
+    }
+
+    TrieNode valueAt(final int index) {
+        return values[index];
+    }
+
     public TrieNode get(final int key) {
         for (int i = 0; i < size; i++) {
             if (keys[i] == key)
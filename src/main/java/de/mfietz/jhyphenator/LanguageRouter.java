@@ -0,0 +1,209 @@
+package de.mfietz.jhyphenator;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Hyphenates text in several languages by routing every word to the
+ * hyphenator of its BCP-47 language tag, e.g. {@code "de"}, {@code "en-GB"}
+ * or {@code "de-CH-1996"}.
+ * <p>
+ * A tag is resolved by dropping subtags from the end until a language is
+ * found, so {@code "sv-SE"} uses the Swedish patterns. Resolved tags are
+ * remembered, so routing a word costs a single hash lookup on the tag and no
+ * exceptions are involved for unknown languages. Words of an unknown language
+ * are not hyphenated.
+ * <p>
+ * Instances can be shared between threads.
+ */
+public final class LanguageRouter {
+
+    /** Upper bound of remembered tags, against unbounded tag input. */
+    private static final int MAX_RESOLVED_TAGS = 1024;
+
+    /** Marks a tag without a language in {@link #resolved}. */
+    private static final Object NONE = new Object();
+
+    /** Language codes without patterns of their own, folded like tags. */
+    private static final Map<String, HyphenationPattern> ALIASES;
+
+    static {
+        ALIASES = new HashMap<String, HyphenationPattern>();
+        ALIASES.put("en", HyphenationPattern.EN_US);
+        ALIASES.put("nb", HyphenationPattern.NO);
+        ALIASES.put("nn", HyphenationPattern.NO);
+    }
+
+    private final Map<String, Hyphenator> hyphenators;
+    private final ConcurrentMap<String, Object> resolved = new ConcurrentHashMap<String, Object>();
+
+    /**
+     * Creates a router for the built-in languages. Their hyphenators are
+     * obtained from {@link Hyphenator#getInstance(HyphenationPattern)} when a
+     * tag of the language is first seen.
+     */
+    public LanguageRouter() {
+        this(new HashMap<String, Hyphenator>());
+    }
+
+    /**
+     * Creates a router for the built-in languages and the given ones, which
+     * take precedence, e.g. hyphenators with a cache or loaded with
+     * {@link TexPatternLoader}.
+     *
+     * @param hyphenators hyphenators by language tag
+     */
+    public LanguageRouter(Map<String, Hyphenator> hyphenators) {
+        this.hyphenators = new HashMap<String, Hyphenator>();
+        for (Map.Entry<String, Hyphenator> entry : hyphenators.entrySet()) {
+            this.hyphenators.put(HyphenationPattern.code(entry.getKey()), entry.getValue());
+        }
+    }
+
+    /**
+     * Returns the hyphenator for a language tag.
+     *
+     * @param tag BCP-47 language tag
+     * @return hyphenator, or {@code null} if the language is not supported
+     */
+    public Hyphenator forTag(String tag) {
+        Object hyphenator = resolved.get(tag);
+        if (hyphenator == null) {
+            hyphenator = resolve(tag);
+            if (resolved.size() < MAX_RESOLVED_TAGS) {
+                resolved.putIfAbsent(tag, hyphenator);
+            }
+        }
+        return hyphenator != NONE ? (Hyphenator) hyphenator : null;
+    }
+
+    private Object resolve(String tag) {
+        String code = HyphenationPattern.code(tag);
+        while (true) {
+            Hyphenator hyphenator = hyphenators.get(code);
+            if (hyphenator != null) {
+                return hyphenator;
+            }
+            HyphenationPattern pattern = HyphenationPattern.forCode(code);
+            if (pattern == null) {
+                pattern = ALIASES.get(code);
+            }
+            if (pattern != null) {
+                return Hyphenator.getInstance(pattern);
+            }
+            int end = code.lastIndexOf('_');
+            if (end < 0) {
+                return NONE;
+            }
+            code = code.substring(0, end);
+        }
+    }
+
+    /**
+     * Hyphenates a list of tagged words.
+     *
+     * @param words words to hyphenate
+     * @param tags language tag of each word, {@code null} for none
+     * @return hyphenation points, in the order of the words
+     * @see #hyphenate(CharSequence[], String[])
+     */
+    public HyphenationBatch hyphenate(List<? extends CharSequence> words, List<String> tags) {
+        return hyphenate(words.toArray(new CharSequence[words.size()]),
+                tags.toArray(new String[tags.size()]));
+    }
+
+    /**
+     * Hyphenates an array of tagged words. The words are grouped by language
+     * and each group is processed in one go, so the trie of a language stays
+     * in the processor caches while its words are matched, however the
+     * languages are interleaved in the input.
+     *
+     * @param words words to hyphenate
+     * @param tags language tag of each word, {@code null} for none
+     * @return hyphenation points, in the order of the words
+     * @throws IllegalArgumentException if the arrays differ in length
+     */
+    public HyphenationBatch hyphenate(CharSequence[] words, String[] tags) {
+        if (words.length != tags.length) {
+            throw new IllegalArgumentException(
+                    words.length + " words but " + tags.length + " tags");
+        }
+        // assign each word to the group of its hyphenator, -1 for none;
+        // runs of the same tag, typical for tokenized text, resolve it once
+        Hyphenator[] groups = new Hyphenator[4];
+        int groupCount = 0;
+        int[] group = new int[words.length];
+        int[] groupSize = new int[groups.length];
+        String lastTag = null;
+        int lastGroup = -1;
+        for (int i = 0; i < words.length; i++) {
+            String tag = tags[i];
+            if (tag != lastTag && (tag == null || !tag.equals(lastTag))) {
+                Hyphenator hyphenator = tag != null ? forTag(tag) : null;
+                lastGroup = indexOf(groups, groupCount, hyphenator);
+                if (lastGroup < 0 && hyphenator != null) {
+                    if (groupCount == groups.length) {
+                        groups = Arrays.copyOf(groups, groupCount * 2);
+                        groupSize = Arrays.copyOf(groupSize, groupCount * 2);
+                    }
+                    groups[groupCount] = hyphenator;
+                    lastGroup = groupCount++;
+                }
+                lastTag = tag;
+            }
+            group[i] = lastGroup;
+            if (lastGroup >= 0) {
+                groupSize[lastGroup]++;
+            }
+        }
+
+        // counting sort of the word indexes by group
+        int[] groupStart = new int[groupCount + 1];
+        for (int g = 0; g < groupCount; g++) {
+            groupStart[g + 1] = groupStart[g] + groupSize[g];
+        }
+        int[] order = new int[groupStart[groupCount]];
+        int[] next = Arrays.copyOf(groupStart, groupCount);
+        for (int i = 0; i < words.length; i++) {
+            if (group[i] >= 0) {
+                order[next[group[i]]++] = i;
+            }
+        }
+
+        // a word of n characters has less than n points
+        int[] slots = new int[words.length + 1];
+        for (int i = 0; i < words.length; i++) {
+            slots[i + 1] = slots[i] + words[i].length();
+        }
+        int[] points = new int[slots[words.length]];
+        int[] counts = new int[words.length];
+        int[] scratch = new int[64];
+        for (int g = 0; g < groupCount; g++) {
+            Hyphenator hyphenator = groups[g];
+            for (int k = groupStart[g]; k < groupStart[g + 1]; k++) {
+                int i = order[k];
+                int length = words[i].length();
+                if (scratch.length < length) {
+                    scratch = new int[length];
+                }
+                int count = hyphenator.hyphenationPoints(words[i], 0, length, scratch);
+                System.arraycopy(scratch, 0, points, slots[i], count);
+                counts[i] = count;
+            }
+        }
+        return BatchHyphenator.compact(slots, points, counts);
+    }
+
+    private static int indexOf(Hyphenator[] groups, int groupCount, Hyphenator hyphenator) {
+        for (int g = 0; g < groupCount; g++) {
+            if (groups[g] == hyphenator) {
+                return g;
+            }
+        }
+        return -1;
+    }
+}
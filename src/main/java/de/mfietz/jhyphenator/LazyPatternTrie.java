@@ -0,0 +1,212 @@
+package de.mfietz.jhyphenator;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Pattern matcher that builds its trie piecemeal, one subtrie per root child.
+ * <p>
+ * Initially only the pattern strings are indexed by their first character.
+ * The first time a word contains a character, the subtrie of the patterns
+ * starting with it is built and published with a compare-and-set, so reads
+ * never take a lock; threads racing on the same subtrie may both build it,
+ * but only one copy is kept. Languages of which only a few characters are
+ * ever seen thus never pay for the rest of their trie. The subtries share one
+ * alphabet and character class table.
+ */
+final class LazyPatternTrie implements PatternMatcher {
+
+    private static final int REF_OFFSET_MASK = 0xFFFFFF;
+
+    /** Pattern strings, each holding patterns of {@code sourceLength} chars. */
+    private final String[] sources;
+    private final int[] sourceLength;
+    /** First code points of the patterns in ascending order, the index is the group. */
+    private final int[] firstCodePoints;
+    /** Start of the references of each group in {@link #refs}. */
+    private final int[] groupStart;
+    /** Source index (high byte) and offset of every pattern, ordered by group. */
+    private final int[] refs;
+    private final int[] alphabet;
+    private final char[] directClass;
+    private final AtomicReferenceArray<PatternTrie> subtries;
+    private volatile PatternTrie fullTrie;
+
+    LazyPatternTrie(Map<Integer, String> patterns) {
+        sources = new String[patterns.size()];
+        sourceLength = new int[patterns.size()];
+        int patternCount = 0;
+        int s = 0;
+        for (Map.Entry<Integer, String> entry : patterns.entrySet()) {
+            sources[s] = entry.getValue();
+            sourceLength[s] = entry.getKey();
+            patternCount += sources[s].length() / sourceLength[s];
+            s++;
+        }
+
+        // first code point of every pattern, and all code points
+        int[] first = new int[patternCount];
+        IntArrayList codePoints = new IntArrayList();
+        for (s = 0, patternCount = 0; s < sources.length; s++) {
+            String source = sources[s];
+            for (int i = 0; i + sourceLength[s] <= source.length(); i += sourceLength[s]) {
+                first[patternCount++] = letters(source, i, i + sourceLength[s], codePoints);
+            }
+        }
+        alphabet = PatternTrie.alphabet(codePoints.toArray());
+        directClass = PatternTrie.directClass(alphabet);
+        firstCodePoints = PatternTrie.alphabet(first);
+
+        // counting sort of the patterns by group, stable in source order
+        groupStart = new int[firstCodePoints.length + 1];
+        for (int p = 0; p < patternCount; p++) {
+            groupStart[Arrays.binarySearch(firstCodePoints, first[p]) + 1]++;
+        }
+        for (int g = 0; g < firstCodePoints.length; g++) {
+            groupStart[g + 1] += groupStart[g];
+        }
+        int[] next = Arrays.copyOf(groupStart, firstCodePoints.length);
+        refs = new int[patternCount];
+        for (s = 0, patternCount = 0; s < sources.length; s++) {
+            if (s > 0x7F || sources[s].length() > REF_OFFSET_MASK) {
+                throw new IllegalArgumentException("Too many or too long pattern strings");
+            }
+            for (int i = 0; i + sourceLength[s] <= sources[s].length(); i += sourceLength[s]) {
+                int group = Arrays.binarySearch(firstCodePoints, first[patternCount++]);
+                refs[next[group]++] = s << 24 | i;
+            }
+        }
+        subtries = new AtomicReferenceArray<PatternTrie>(firstCodePoints.length);
+    }
+
+    /**
+     * Adds the code points of the letters of {@code pattern[start, end)} to
+     * {@code codePoints} and returns the first one.
+     */
+    private static int letters(String pattern, int start, int end, IntArrayList codePoints) {
+        int first = -1;
+        for (int i = start; i < end; ) {
+            int codePoint = pattern.codePointAt(i);
+            i += Character.charCount(codePoint);
+            if (!Character.isDigit(codePoint)) {
+                codePoints.add(codePoint);
+                if (first < 0) {
+                    first = codePoint;
+                }
+            }
+        }
+        return first;
+    }
+
+    @Override
+    public void match(int[] codePoints, int length, long[] points) {
+        for (int i = 0; i < length; i++) {
+            int group = Arrays.binarySearch(firstCodePoints, codePoints[i]);
+            if (group >= 0) {
+                PatternTrie subtrie = subtries.get(group);
+                if (subtrie == null) {
+                    subtrie = materialize(group);
+                }
+                subtrie.matchAt(codePoints, i, length, points);
+            }
+        }
+    }
+
+    private PatternTrie materialize(int group) {
+        TrieBuilder builder = new TrieBuilder();
+        for (int r = groupStart[group]; r < groupStart[group + 1]; r++) {
+            int s = refs[r] >>> 24;
+            int offset = refs[r] & REF_OFFSET_MASK;
+            builder.add(sources[s], offset, offset + sourceLength[s]);
+        }
+        PatternTrie subtrie = new PatternTrie(builder.build(), alphabet, directClass);
+        if (subtries.compareAndSet(group, null, subtrie)) {
+            return subtrie;
+        }
+        return subtries.get(group);
+    }
+
+    /**
+     * Returns the complete trie, as built eagerly from the same patterns.
+     * Needed where the whole trie is processed, e.g. to compile or serialize
+     * it.
+     */
+    PatternTrie fullTrie() {
+        PatternTrie trie = fullTrie;
+        if (trie == null) {
+            TrieBuilder builder = new TrieBuilder();
+            for (int s = 0; s < sources.length; s++) {
+                for (int i = 0; i + sourceLength[s] <= sources[s].length(); i += sourceLength[s]) {
+                    builder.add(sources[s], i, i + sourceLength[s]);
+                }
+            }
+            trie = builder.build();
+            fullTrie = trie;
+        }
+        return trie;
+    }
+
+    int materializedCount() {
+        int count = 0;
+        for (int g = 0; g < subtries.length(); g++) {
+            if (subtries.get(g) != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    int groupCount() {
+        return subtries.length();
+    }
+
+    /** Number of nodes of the subtries built so far. */
+    int nodeCount() {
+        int nodes = 0;
+        for (int g = 0; g < subtries.length(); g++) {
+            PatternTrie subtrie = subtries.get(g);
+            nodes += subtrie != null ? subtrie.nodeCount() : 0;
+        }
+        return nodes;
+    }
+
+    /** Number of patterns in the subtries built so far. */
+    int patternCount() {
+        int patterns = 0;
+        for (int g = 0; g < subtries.length(); g++) {
+            PatternTrie subtrie = subtries.get(g);
+            patterns += subtrie != null ? subtrie.patternCount() : 0;
+        }
+        return patterns;
+    }
+
+    /** Length of the longest pattern in the subtries built so far. */
+    int maxDepth() {
+        int depth = 0;
+        for (int g = 0; g < subtries.length(); g++) {
+            PatternTrie subtrie = subtries.get(g);
+            depth = Math.max(depth, subtrie != null ? subtrie.maxDepth() : 0);
+        }
+        return depth;
+    }
+
+    /**
+     * Returns the estimated size of the index and of the subtries built so
+     * far, counting the shared class tables once. The pattern strings belong
+     * to {@link HyphenationPattern} and are not included.
+     */
+    long estimatedBytes() {
+        long shared = PatternTrie.arrayBytes(alphabet) + 16 + 2L * directClass.length;
+        long bytes = 64 + PatternTrie.arrayBytes(sourceLength) + 16 + 4L * sources.length
+                + PatternTrie.arrayBytes(firstCodePoints) + PatternTrie.arrayBytes(groupStart)
+                + PatternTrie.arrayBytes(refs) + shared + 16 + 4L * subtries.length();
+        for (int g = 0; g < subtries.length(); g++) {
+            PatternTrie subtrie = subtries.get(g);
+            if (subtrie != null) {
+                bytes += subtrie.estimatedBytes() - shared;
+            }
+        }
+        return bytes;
+    }
+}
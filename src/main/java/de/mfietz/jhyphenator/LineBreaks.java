@@ -0,0 +1,78 @@
+package de.mfietz.jhyphenator;
+
+/**
+ * Lines of a {@link Paragraph} laid out for one line width. Each line is a
+ * range of the paragraph text without the spaces around it; a line broken at
+ * a hyphenation point is displayed with a hyphen added.
+ *
+ * @see Paragraph#layout(float)
+ */
+public final class LineBreaks {
+
+    private final String text;
+    private final int[] starts;
+    private final int[] ends;
+    private final boolean[] hyphenated;
+    private final float[] ratios;
+
+    LineBreaks(String text, int[] starts, int[] ends, boolean[] hyphenated, float[] ratios) {
+        this.text = text;
+        this.starts = starts;
+        this.ends = ends;
+        this.hyphenated = hyphenated;
+        this.ratios = ratios;
+    }
+
+    /**
+     * @return number of lines
+     */
+    public int lineCount() {
+        return starts.length;
+    }
+
+    /**
+     * @param line index of the line
+     * @return offset of the first character of the line in the text
+     */
+    public int start(int line) {
+        return starts[line];
+    }
+
+    /**
+     * @param line index of the line
+     * @return offset after the last character of the line in the text
+     */
+    public int end(int line) {
+        return ends[line];
+    }
+
+    /**
+     * @param line index of the line
+     * @return whether the line ends at a hyphenation point and needs a hyphen
+     */
+    public boolean isHyphenated(int line) {
+        return hyphenated[line];
+    }
+
+    /**
+     * Returns how much the spaces of the line are stretched, as a fraction of
+     * their stretchability, or shrunk if negative. Justified text sets each
+     * space to its width plus the ratio times its stretch or shrink. The ratio
+     * is 0 for the last line and below -1 for a line that overflows.
+     *
+     * @param line index of the line
+     * @return adjustment ratio of the line
+     */
+    public float ratio(int line) {
+        return ratios[line];
+    }
+
+    /**
+     * @param line index of the line
+     * @return text of the line, with a hyphen if it is hyphenated
+     */
+    public String line(int line) {
+        String content = text.substring(starts[line], ends[line]);
+        return hyphenated[line] ? content + "-" : content;
+    }
+}
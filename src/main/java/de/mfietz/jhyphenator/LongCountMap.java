@@ -0,0 +1,105 @@
+package de.mfietz.jhyphenator;
+
+/**
+ * Open-addressing map from non-zero {@code long} keys to a pair of
+ * {@code int} counts, used by {@link PatternGenerator} to count candidate
+ * patterns without boxing. Keys are probed linearly; 0 marks an empty slot.
+ * Entries are visited by slot, from 0 to {@link #capacity()}, skipping slots
+ * whose {@link #keyAt(int)} is 0.
+ */
+final class LongCountMap {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] keys;
+    private int[] good;
+    private int[] bad;
+    private int size;
+
+    LongCountMap() {
+        keys = new long[MIN_CAPACITY];
+        good = new int[MIN_CAPACITY];
+        bad = new int[MIN_CAPACITY];
+    }
+
+    /**
+     * Adds {@code good} and {@code bad} to the counts of {@code key}.
+     */
+    void add(long key, int good, int bad) {
+        int slot = slot(key);
+        if (keys[slot] == 0) {
+            keys[slot] = key;
+            if (++size * 2 > keys.length) {
+                resize(keys.length * 2);
+                slot = slot(key);
+            }
+        }
+        this.good[slot] += good;
+        this.bad[slot] += bad;
+    }
+
+    /**
+     * Adds all counts of {@code other} to this map.
+     */
+    void addAll(LongCountMap other) {
+        for (int i = 0; i < other.keys.length; i++) {
+            if (other.keys[i] != 0) {
+                add(other.keys[i], other.good[i], other.bad[i]);
+            }
+        }
+    }
+
+    boolean contains(long key) {
+        return keys[slot(key)] != 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int capacity() {
+        return keys.length;
+    }
+
+    long keyAt(int slot) {
+        return keys[slot];
+    }
+
+    int goodAt(int slot) {
+        return good[slot];
+    }
+
+    int badAt(int slot) {
+        return bad[slot];
+    }
+
+    /**
+     * Returns the slot of {@code key}, or the empty slot where it belongs.
+     */
+    private int slot(long key) {
+        int mask = keys.length - 1;
+        long hash = key * 0x9E3779B97F4A7C15L;
+        int slot = (int) (hash >>> 32) & mask;
+        while (keys[slot] != 0 && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldGood = good;
+        int[] oldBad = bad;
+        keys = new long[capacity];
+        good = new int[capacity];
+        bad = new int[capacity];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int slot = slot(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                good[slot] = oldGood[i];
+                bad[slot] = oldBad[i];
+            }
+        }
+    }
+}
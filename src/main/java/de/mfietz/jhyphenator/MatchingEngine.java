@@ -0,0 +1,23 @@
+package de.mfietz.jhyphenator;
+
+/**
+ * Algorithms for finding the patterns that occur in a word. All engines
+ * produce identical hyphenation points.
+ *
+ * @see Hyphenator#withEngine(MatchingEngine)
+ */
+public enum MatchingEngine {
+
+    /**
+     * Walks the pattern trie from every position of the word. Needs no extra
+     * memory and is fastest for short words.
+     */
+    TRIE,
+
+    /**
+     * Follows failure links through the pattern trie so that all patterns are
+     * found in a single left-to-right pass, at the cost of an unfolded copy of
+     * the trie. Pays off for long words such as compounds.
+     */
+    AHO_CORASICK
+}
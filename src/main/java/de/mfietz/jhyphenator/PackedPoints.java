@@ -0,0 +1,211 @@
+package de.mfietz.jhyphenator;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Liang values packed eight to a {@code long}, one byte lane per position,
+ * and merged with SWAR (SIMD within a register) arithmetic.
+ * <p>
+ * Values are single digits in practice and must not exceed
+ * {@link #MAX_VALUE}, which keeps the high bit of every lane free. A
+ * per-lane maximum of two words then takes a handful of arithmetic
+ * operations without branches: {@code (a | 0x80) - b} never borrows across
+ * lanes and leaves the high bit of a lane set exactly where {@code a >= b}.
+ * Merging a pattern's value vector into the points of a word thus costs one
+ * or two such operations per eight positions instead of a comparison per
+ * position.
+ * <p>
+ * Lane {@code i & 7} of word {@code i >>> 3} holds position {@code i}.
+ * <p>
+ * On a JDK whose {@code jdk.incubator.vector} module is enabled, e.g. with
+ * {@code --add-modules jdk.incubator.vector}, merging uses
+ * {@code VectorMerge} from the optional vector classes if they are on the
+ * class path. Otherwise the SWAR merge is the scalar fallback.
+ */
+final class PackedPoints {
+
+    /**
+     * A merge of a packed vector into the points of a word, as done by
+     * {@link #merge}.
+     */
+    interface Merge {
+
+        void merge(long[] points, int start, long[] packed, int ref);
+    }
+
+    /** Largest value that fits a lane. */
+    static final int MAX_VALUE = 0x7F;
+
+    /** The lowest bit of every lane, i.e. the odd values. */
+    static final long ODD_BITS = 0x0101010101010101L;
+
+    private static final long HIGH_BITS = 0x8080808080808080L;
+
+    /** Bits of a reference holding the length of the vector. */
+    private static final int LENGTH_BITS = 8;
+
+    /** Longest vector {@link #pack} accepts, limited by the length bits. */
+    static final int MAX_LENGTH = (1 << LENGTH_BITS) - 1;
+
+    /** Number of words of the largest pool a reference can address. */
+    private static final int MAX_WORDS = Integer.MAX_VALUE >>> LENGTH_BITS;
+
+    /** The merge using the JDK Vector API, or {@code null} if unavailable. */
+    static final Merge VECTOR = vectorMerge();
+
+    private PackedPoints() {
+    }
+
+    /**
+     * Returns the number of words needed for the points of a word of
+     * {@code length} code points, including room for the spill of a shifted
+     * vector. The vector of a matching pattern ends at most one position
+     * past the word, whatever its length.
+     */
+    static int words(int length) {
+        return (length >>> 3) + 8;
+    }
+
+    /**
+     * Packs the length-prefixed vectors of {@code pool} and fills
+     * {@code refs} with the reference of the vector at each of
+     * {@code offsets}, or -1 where the offset is negative. A reference is the
+     * index of the first word shifted left by eight, or'ed with the length of
+     * the vector.
+     *
+     * @throws IllegalArgumentException if a value exceeds {@link #MAX_VALUE}
+     *         or a vector {@link #MAX_LENGTH}
+     */
+    static long[] pack(int[] offsets, int[] pool, int[] refs) {
+        int[] refByOffset = new int[pool.length];
+        int size = 0;
+        for (int offset = 0; offset < pool.length; offset += 1 + pool[offset]) {
+            size += (pool[offset] + 7) >>> 3;
+        }
+        if (size > MAX_WORDS) {
+            throw new IllegalArgumentException("Too many pattern values: " + size + " words");
+        }
+        long[] packed = new long[size];
+        int index = 0;
+        for (int offset = 0; offset < pool.length; offset += 1 + pool[offset]) {
+            int length = pool[offset];
+            if (length > MAX_LENGTH) {
+                throw new IllegalArgumentException("Pattern too long: " + length);
+            }
+            int words = (length + 7) >>> 3;
+            for (int i = 0; i < length; i++) {
+                int value = pool[offset + 1 + i];
+                if (value < 0 || value > MAX_VALUE) {
+                    throw new IllegalArgumentException("Pattern value out of range: " + value);
+                }
+                packed[index + (i >>> 3)] |= (long) value << ((i & 7) << 3);
+            }
+            refByOffset[offset] = index << LENGTH_BITS | length;
+            index += words;
+        }
+        for (int n = 0; n < offsets.length; n++) {
+            refs[n] = offsets[n] >= 0 ? refByOffset[offsets[n]] : -1;
+        }
+        return packed;
+    }
+
+    private static Merge vectorMerge() {
+        try {
+            Class.forName("jdk.incubator.vector.LongVector");
+            return (Merge) Class.forName(PackedPoints.class.getPackage().getName()
+                    + ".VectorMerge").getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            // module not enabled or vector classes not on the class path
+            logFallback(e);
+            return null;
+        } catch (LinkageError e) {
+            // compiled for a newer JDK than the running one
+            logFallback(e);
+            return null;
+        }
+    }
+
+    private static void logFallback(Throwable e) {
+        Logger.getLogger(PackedPoints.class.getName()).log(Level.FINE,
+                "JDK Vector API unavailable, merging with SWAR", e);
+    }
+
+    /**
+     * Returns the index of the first word of the vector referenced by
+     * {@code ref}.
+     */
+    static int index(int ref) {
+        return ref >>> LENGTH_BITS;
+    }
+
+    /**
+     * Returns the length of the vector referenced by {@code ref}.
+     */
+    static int length(int ref) {
+        return ref & MAX_LENGTH;
+    }
+
+    /**
+     * Returns the values of the vector referenced by {@code ref}.
+     */
+    static int[] unpack(long[] packed, int ref) {
+        int index = index(ref);
+        int[] values = new int[length(ref)];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (int) (packed[index + (i >>> 3)] >>> ((i & 7) << 3)) & 0xFF;
+        }
+        return values;
+    }
+
+    /**
+     * Merges the vector referenced by {@code ref} into {@code points},
+     * starting at position {@code start}.
+     */
+    static void merge(long[] points, int start, long[] packed, int ref) {
+        if (VECTOR != null) {
+            VECTOR.merge(points, start, packed, ref);
+        } else {
+            mergeSwar(points, start, packed, ref);
+        }
+    }
+
+    /**
+     * Merges like {@link #merge} with SWAR arithmetic only.
+     */
+    static void mergeSwar(long[] points, int start, long[] packed, int ref) {
+        int index = index(ref);
+        int end = index + ((length(ref) + 7) >>> 3);
+        int word = start >>> 3;
+        int shift = (start & 7) << 3;
+        if (shift == 0) {
+            for (; index < end; index++, word++) {
+                points[word] = max(points[word], packed[index]);
+            }
+        } else {
+            for (; index < end; index++, word++) {
+                long vector = packed[index];
+                points[word] = max(points[word], vector << shift);
+                points[word + 1] = max(points[word + 1], vector >>> (64 - shift));
+            }
+        }
+    }
+
+    /**
+     * Returns the per-lane maximum of two words whose lanes are at most
+     * {@link #MAX_VALUE}.
+     */
+    static long max(long a, long b) {
+        long greaterOrEqual = ((a | HIGH_BITS) - b) & HIGH_BITS;
+        // 0x7F in the lanes where a >= b, which covers every value bit
+        long mask = greaterOrEqual - (greaterOrEqual >>> 7);
+        return (a & mask) | (b & ~mask);
+    }
+
+    /**
+     * Returns the value at position {@code i}.
+     */
+    static int get(long[] points, int i) {
+        return (int) (points[i >>> 3] >>> ((i & 7) << 3)) & 0xFF;
+    }
+}
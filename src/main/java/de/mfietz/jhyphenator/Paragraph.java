@@ -0,0 +1,347 @@
+package de.mfietz.jhyphenator;
+
+import java.util.Arrays;
+
+/**
+ * A hyphenated and measured paragraph, ready to be broken into lines of any
+ * width by {@link #layout(float)}.
+ * <p>
+ * The paragraph is a sequence of items in the model of Knuth and Plass:
+ * boxes for the syllables of words, glue for the spaces and penalties for the
+ * break candidates inside words. The items are kept in parallel arrays along
+ * with prefix sums of their widths, so the width of any line is the
+ * difference of two sums and laying out again for another width repeats no
+ * measuring or hyphenation.
+ * <p>
+ * Instances are immutable and can be shared between threads.
+ *
+ * @see ParagraphBreaker
+ */
+public final class Paragraph {
+
+    static final byte BOX = 0;
+    static final byte GLUE = 1;
+    /** Break at a hyphenation point, a hyphen is added to the line. */
+    static final byte HYPHEN = 2;
+    /** Break after a hyphen of the text. */
+    static final byte EXPLICIT = 3;
+    /** Infinitely stretchable glue filling the last line. */
+    private static final byte FILL = 4;
+    /** Break at the end of the paragraph. */
+    private static final byte FORCED = 5;
+
+    private static final int LINE_PENALTY = 10;
+    private static final double DOUBLE_HYPHEN_DEMERITS = 10000;
+    private static final double ADJACENT_DEMERITS = 10000;
+    /** Badness of a line that cannot stretch or shrink to the width. */
+    private static final double INFINITE_BADNESS = 1e10;
+
+    private final String text;
+    private final float tolerance;
+    private final int size;
+    private final byte[] kinds;
+    /** Text offsets of the items, equal for penalties. */
+    private final int[] starts;
+    private final int[] ends;
+    private final float[] widths;
+    private final int[] penalties;
+    /** Sums over the items before each index, {@code size + 1} long. */
+    private final double[] sumWidth;
+    private final double[] sumStretch;
+    private final double[] sumShrink;
+
+    private Paragraph(Builder builder) {
+        this.text = builder.text;
+        this.tolerance = builder.tolerance;
+        this.size = builder.size;
+        this.kinds = Arrays.copyOf(builder.kinds, size);
+        this.starts = Arrays.copyOf(builder.starts, size);
+        this.ends = Arrays.copyOf(builder.ends, size);
+        this.widths = Arrays.copyOf(builder.widths, size);
+        this.penalties = Arrays.copyOf(builder.penalties, size);
+        this.sumWidth = new double[size + 1];
+        this.sumStretch = new double[size + 1];
+        this.sumShrink = new double[size + 1];
+        for (int i = 0; i < size; i++) {
+            // penalties only count when breaking at them
+            boolean penalty = kinds[i] != BOX && kinds[i] != GLUE;
+            sumWidth[i + 1] = sumWidth[i] + (penalty ? 0 : widths[i]);
+            sumStretch[i + 1] = sumStretch[i] + builder.stretches[i];
+            sumShrink[i + 1] = sumShrink[i] + builder.shrinks[i];
+        }
+    }
+
+    /**
+     * @return the text of the paragraph
+     */
+    public String text() {
+        return text;
+    }
+
+    /**
+     * Breaks the paragraph into lines of {@code lineWidth} with the least
+     * total demerits. If no such breaking keeps every line within the
+     * tolerance, looser lines are allowed, and words wider than a line
+     * overflow it.
+     *
+     * @param lineWidth width of every line, in the unit of the measurer
+     * @return the lines
+     */
+    public LineBreaks layout(float lineWidth) {
+        if (Float.isNaN(lineWidth)) {
+            throw new IllegalArgumentException("lineWidth is NaN");
+        }
+        LineBreaks lines = layout(lineWidth, tolerance, false);
+        return lines != null ? lines : layout(lineWidth, Double.POSITIVE_INFINITY, true);
+    }
+
+    /**
+     * Finds the optimal breaks with the active-node algorithm of Knuth and
+     * Plass. Returns {@code null} if every candidate line exceeds the
+     * tolerance and {@code emergency} is not set; in emergency mode an
+     * overfull line is accepted instead.
+     */
+    private LineBreaks layout(float lineWidth, double tolerance, boolean emergency) {
+        if (size == 2) {
+            // only the fill and the forced break
+            return new LineBreaks(text, new int[0], new int[0], new boolean[0], new float[0]);
+        }
+        Nodes nodes = new Nodes();
+        int[] active = new int[8];
+        active[0] = nodes.add(-1, 0, 1, 0, 0, -1);
+        int activeCount = 1;
+        double[] best = new double[4];
+        int[] bestNode = new int[4];
+        float[] bestRatio = new float[4];
+
+        for (int i = 1; i < size; i++) {
+            byte kind = kinds[i];
+            if (kind == BOX || kind == FILL || kind == GLUE && kinds[i - 1] != BOX) {
+                continue;
+            }
+            boolean forced = kind == FORCED;
+            boolean flagged = kind == HYPHEN || kind == EXPLICIT;
+            double penalty = forced || kind == GLUE ? 0 : penalties[i];
+            double extraWidth = kind == GLUE ? 0 : widths[i];
+            Arrays.fill(best, Double.POSITIVE_INFINITY);
+            double minDemerits = Double.POSITIVE_INFINITY;
+            int overfull = -1;
+            double overfullRatio = 0;
+            double overflow = Double.POSITIVE_INFINITY;
+
+            int kept = 0;
+            for (int k = 0; k < activeCount; k++) {
+                int a = active[k];
+                int after = nodes.after[a];
+                double width = sumWidth[i] - sumWidth[after] + extraWidth;
+                double ratio;
+                if (width < lineWidth) {
+                    double stretch = sumStretch[i] - sumStretch[after];
+                    ratio = forced ? 0 : stretch > 0 ? (lineWidth - width) / stretch
+                            : Double.POSITIVE_INFINITY;
+                } else if (width > lineWidth) {
+                    double shrink = sumShrink[i] - sumShrink[after];
+                    ratio = shrink > 0 ? (lineWidth - width) / shrink : Double.NEGATIVE_INFINITY;
+                } else {
+                    ratio = 0;
+                }
+                if (ratio < -1 || forced) {
+                    if (ratio < -1 && width - lineWidth <= overflow) {
+                        overfull = a;
+                        overfullRatio = ratio;
+                        overflow = width - lineWidth;
+                    }
+                } else {
+                    active[kept++] = a;
+                }
+                if (ratio < -1 || ratio > tolerance) {
+                    continue;
+                }
+                double badness = Double.isInfinite(ratio) ? INFINITE_BADNESS
+                        : 100 * Math.abs(ratio * ratio * ratio);
+                double demerits = (LINE_PENALTY + badness) * (LINE_PENALTY + badness);
+                demerits += penalty >= 0 ? penalty * penalty : -penalty * penalty;
+                int previous = nodes.item[a];
+                if (flagged && previous >= 0
+                        && (kinds[previous] == HYPHEN || kinds[previous] == EXPLICIT)) {
+                    demerits += DOUBLE_HYPHEN_DEMERITS;
+                }
+                int fitness = ratio < -0.5 ? 0 : ratio <= 0.5 ? 1 : ratio <= 1 ? 2 : 3;
+                if (Math.abs(fitness - nodes.fitness[a]) > 1) {
+                    demerits += ADJACENT_DEMERITS;
+                }
+                demerits += nodes.demerits[a];
+                if (demerits < best[fitness]) {
+                    best[fitness] = demerits;
+                    bestNode[fitness] = a;
+                    bestRatio[fitness] = (float) ratio;
+                    minDemerits = Math.min(minDemerits, demerits);
+                }
+            }
+            activeCount = kept;
+
+            int after = after(i);
+            boolean created = false;
+            for (int fitness = 0; fitness < 4; fitness++) {
+                // candidates far worse than the best of this break cannot win
+                if (best[fitness] < Double.POSITIVE_INFINITY
+                        && best[fitness] <= minDemerits + ADJACENT_DEMERITS) {
+                    if (activeCount == active.length) {
+                        active = Arrays.copyOf(active, activeCount * 2);
+                    }
+                    active[activeCount++] = nodes.add(i, after, fitness, best[fitness],
+                            bestRatio[fitness], bestNode[fitness]);
+                    created = true;
+                }
+            }
+            if (!created && activeCount == 0) {
+                if (!emergency || overfull < 0) {
+                    return null;
+                }
+                // nothing fits, let the least overfull line overflow
+                double demerits = nodes.demerits[overfull] + (LINE_PENALTY + INFINITE_BADNESS)
+                        * (LINE_PENALTY + INFINITE_BADNESS);
+                active[activeCount++] = nodes.add(i, after, 0, demerits, (float) overfullRatio,
+                        overfull);
+            }
+        }
+
+        // the forced break at the end leaves only nodes at the last item
+        int last = active[0];
+        for (int k = 1; k < activeCount; k++) {
+            if (nodes.demerits[active[k]] < nodes.demerits[last]) {
+                last = active[k];
+            }
+        }
+        return lines(nodes, last);
+    }
+
+    /**
+     * Returns the index of the first item of a line following a break at
+     * item {@code i}, skipping the spaces and penalties discarded there.
+     */
+    private int after(int i) {
+        int j = i + 1;
+        while (j < size && kinds[j] != BOX && kinds[j] != FILL && kinds[j] != FORCED) {
+            j++;
+        }
+        return j;
+    }
+
+    private LineBreaks lines(Nodes nodes, int last) {
+        int count = nodes.line[last];
+        int[] lineStarts = new int[count];
+        int[] lineEnds = new int[count];
+        boolean[] hyphenated = new boolean[count];
+        float[] ratios = new float[count];
+        for (int n = last, line = count - 1; line >= 0; n = nodes.previous[n], line--) {
+            int item = nodes.item[n];
+            int previous = nodes.previous[n];
+            lineStarts[line] = starts[Math.min(nodes.after[previous], size - 1)];
+            lineEnds[line] = starts[item];
+            hyphenated[line] = kinds[item] == HYPHEN;
+            ratios[line] = nodes.ratio[n];
+        }
+        return new LineBreaks(text, lineStarts, lineEnds, hyphenated, ratios);
+    }
+
+    /**
+     * Pool of the break nodes of one layout, one array per field. Nodes are
+     * only appended; the active ones are tracked by index.
+     */
+    private static final class Nodes {
+
+        int size;
+        int[] item = new int[16];
+        int[] after = new int[16];
+        int[] line = new int[16];
+        int[] fitness = new int[16];
+        double[] demerits = new double[16];
+        float[] ratio = new float[16];
+        int[] previous = new int[16];
+
+        int add(int item, int after, int fitness, double demerits, float ratio, int previous) {
+            if (size == this.item.length) {
+                int capacity = size * 2;
+                this.item = Arrays.copyOf(this.item, capacity);
+                this.after = Arrays.copyOf(this.after, capacity);
+                this.line = Arrays.copyOf(this.line, capacity);
+                this.fitness = Arrays.copyOf(this.fitness, capacity);
+                this.demerits = Arrays.copyOf(this.demerits, capacity);
+                this.ratio = Arrays.copyOf(this.ratio, capacity);
+                this.previous = Arrays.copyOf(this.previous, capacity);
+            }
+            this.item[size] = item;
+            this.after[size] = after;
+            this.line[size] = previous < 0 ? 0 : line[previous] + 1;
+            this.fitness[size] = fitness;
+            this.demerits[size] = demerits;
+            this.ratio[size] = ratio;
+            this.previous[size] = previous;
+            return size++;
+        }
+    }
+
+    /**
+     * Collects the items of a paragraph in text order.
+     */
+    static final class Builder {
+
+        private final String text;
+        private final float tolerance;
+        private int size;
+        private byte[] kinds = new byte[64];
+        private int[] starts = new int[64];
+        private int[] ends = new int[64];
+        private float[] widths = new float[64];
+        private float[] stretches = new float[64];
+        private float[] shrinks = new float[64];
+        private int[] penalties = new int[64];
+
+        Builder(String text, float tolerance) {
+            this.text = text;
+            this.tolerance = tolerance;
+        }
+
+        void box(int start, int end, float width) {
+            add(BOX, start, end, width, 0, 0, 0);
+        }
+
+        void glue(int start, int end, float width, float stretch, float shrink) {
+            add(GLUE, start, end, width, stretch, shrink, 0);
+        }
+
+        void penalty(int offset, float width, int penalty, byte kind) {
+            add(kind, offset, offset, width, 0, 0, penalty);
+        }
+
+        Paragraph build() {
+            int end = size > 0 ? ends[size - 1] : 0;
+            add(FILL, end, end, 0, 0, 0, 0);
+            add(FORCED, end, end, 0, 0, 0, 0);
+            return new Paragraph(this);
+        }
+
+        private void add(byte kind, int start, int end, float width, float stretch, float shrink,
+                int penalty) {
+            if (size == kinds.length) {
+                int capacity = size * 2;
+                kinds = Arrays.copyOf(kinds, capacity);
+                starts = Arrays.copyOf(starts, capacity);
+                ends = Arrays.copyOf(ends, capacity);
+                widths = Arrays.copyOf(widths, capacity);
+                stretches = Arrays.copyOf(stretches, capacity);
+                shrinks = Arrays.copyOf(shrinks, capacity);
+                penalties = Arrays.copyOf(penalties, capacity);
+            }
+            kinds[size] = kind;
+            starts[size] = start;
+            ends[size] = end;
+            widths[size] = width;
+            stretches[size] = stretch;
+            shrinks[size] = shrink;
+            penalties[size] = penalty;
+            size++;
+        }
+    }
+}
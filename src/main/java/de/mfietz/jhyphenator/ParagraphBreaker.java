@@ -0,0 +1,156 @@
+package de.mfietz.jhyphenator;
+
+/**
+ * Breaks paragraphs into lines with the optimum-fit algorithm of Knuth and
+ * Plass, using the hyphenation points of the words as penalized break
+ * candidates.
+ * <p>
+ * {@link #prepare(CharSequence)} hyphenates and measures a paragraph once;
+ * the returned {@link Paragraph} can then be laid out for any number of line
+ * widths without hyphenating or measuring again.
+ * <p>
+ * Instances are immutable and can be shared between threads if the
+ * {@link WidthMeasurer} can.
+ */
+public final class ParagraphBreaker {
+
+    /** Largest adjustment ratio of a line on the first pass, as in TeX. */
+    public static final float DEFAULT_TOLERANCE = 2f;
+
+    /** Penalty of a break at a hyphenation point, TeX's hyphenpenalty. */
+    public static final int DEFAULT_HYPHEN_PENALTY = 50;
+
+    private final Hyphenator hyphenator;
+    private final WidthMeasurer measurer;
+    private final float tolerance;
+    private final int hyphenPenalty;
+    private final float hyphenWidth;
+
+    /**
+     * @param hyphenator hyphenator for the language of the paragraphs
+     * @param measurer measurer of the font the paragraphs are set in
+     */
+    public ParagraphBreaker(Hyphenator hyphenator, WidthMeasurer measurer) {
+        this(hyphenator, measurer, DEFAULT_TOLERANCE, DEFAULT_HYPHEN_PENALTY);
+    }
+
+    /**
+     * @param hyphenator hyphenator for the language of the paragraphs
+     * @param measurer measurer of the font the paragraphs are set in
+     * @param tolerance largest adjustment ratio of a line before falling
+     *        back to looser lines
+     * @param hyphenPenalty penalty of a break at a hyphenation point, higher
+     *        values avoid hyphenation
+     */
+    public ParagraphBreaker(Hyphenator hyphenator, WidthMeasurer measurer, float tolerance,
+            int hyphenPenalty) {
+        if (!(tolerance > 0)) {
+            throw new IllegalArgumentException("tolerance must be positive: " + tolerance);
+        }
+        this.hyphenator = hyphenator;
+        this.measurer = measurer;
+        this.tolerance = tolerance;
+        this.hyphenPenalty = hyphenPenalty;
+        this.hyphenWidth = measurer.width("-", 0, 1);
+    }
+
+    /**
+     * Hyphenates and measures {@code text} as one paragraph. Runs of white
+     * space separate words and become stretchable spaces, words may also be
+     * broken after an explicit hyphen.
+     *
+     * @param text the paragraph
+     * @return paragraph that can be laid out for any line width
+     */
+    public Paragraph prepare(CharSequence text) {
+        String paragraph = text.toString();
+        Paragraph.Builder builder = new Paragraph.Builder(paragraph, tolerance);
+        int[] breaks = new int[16];
+        int length = paragraph.length();
+        int i = 0;
+        while (i < length && Character.isWhitespace(paragraph.charAt(i))) {
+            i++;
+        }
+        while (i < length) {
+            int wordEnd = i;
+            while (wordEnd < length && !Character.isWhitespace(paragraph.charAt(wordEnd))) {
+                wordEnd++;
+            }
+            breaks = addWord(builder, paragraph, i, wordEnd, breaks);
+            i = wordEnd;
+            while (i < length && Character.isWhitespace(paragraph.charAt(i))) {
+                i++;
+            }
+            if (i < length) {
+                float width = measurer.width(paragraph, wordEnd, i);
+                // TeX's interword glue: stretch by half, shrink by a third
+                builder.glue(wordEnd, i, width, width / 2, width / 3);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Adds the boxes of the word {@code text[start, end)}, separated by
+     * penalties at its hyphenation points and after explicit hyphens.
+     *
+     * @return the buffer for hyphenation points, possibly grown
+     */
+    private int[] addWord(Paragraph.Builder builder, String text, int start, int end,
+            int[] breaks) {
+        int segmentStart = start;
+        for (int i = start; i < end; i++) {
+            // a hyphen between two letters is a break candidate
+            if (text.charAt(i) == '-' && i > start && i + 1 < end
+                    && Character.isLetter(text.charAt(i - 1))
+                    && Character.isLetter(text.charAt(i + 1))) {
+                breaks = addSegment(builder, text, segmentStart, i + 1, breaks);
+                builder.penalty(i + 1, 0, hyphenPenalty, Paragraph.EXPLICIT);
+                segmentStart = i + 1;
+            }
+        }
+        return addSegment(builder, text, segmentStart, end, breaks);
+    }
+
+    private int[] addSegment(Paragraph.Builder builder, String text, int start, int end,
+            int[] breaks) {
+        // only the letters are hyphenated, punctuation sticks to them
+        int letterStart = start;
+        while (letterStart < end && !Character.isLetter(text.charAt(letterStart))) {
+            letterStart++;
+        }
+        int letterEnd = end;
+        while (letterEnd > letterStart && !Character.isLetter(text.charAt(letterEnd - 1))) {
+            letterEnd--;
+        }
+        int count = 0;
+        if (letterEnd - letterStart > 1 && isWord(text, letterStart, letterEnd)) {
+            if (breaks.length < letterEnd - letterStart - 1) {
+                breaks = new int[letterEnd - letterStart - 1];
+            }
+            count = hyphenator.hyphenationPoints(text, letterStart, letterEnd, breaks);
+        }
+        int boxStart = start;
+        for (int k = 0; k < count; k++) {
+            int point = letterStart + breaks[k];
+            builder.box(boxStart, point, measurer.width(text, boxStart, point));
+            builder.penalty(point, hyphenWidth, hyphenPenalty, Paragraph.HYPHEN);
+            boxStart = point;
+        }
+        builder.box(boxStart, end, measurer.width(text, boxStart, end));
+        return breaks;
+    }
+
+    private static boolean isWord(String text, int start, int end) {
+        for (int i = start; i < end; ) {
+            int codePoint = text.codePointAt(i);
+            int type = Character.getType(codePoint);
+            if (!Character.isLetter(codePoint) && type != Character.NON_SPACING_MARK
+                    && type != Character.COMBINING_SPACING_MARK) {
+                return false;
+            }
+            i += Character.charCount(codePoint);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,470 @@
+package de.mfietz.jhyphenator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Trains hyphenation patterns from a list of hyphenated words with Liang's
+ * method, as TeX's patgen does. The result has the format of
+ * {@link HyphenationPattern#patterns} and can be used right away with
+ * {@link Hyphenator#create(Map, int, int)}.
+ * <p>
+ * Patterns are chosen level by level. Odd levels add hyphens the patterns
+ * so far miss, even levels remove hyphens they wrongly find. Within a level,
+ * every pattern length and position of the value in the pattern is one pass
+ * over the words: each candidate pattern counts the positions where it would
+ * fix the current result (good) or break it (bad), and is chosen if
+ * {@code good * goodWeight - bad * badWeight >= threshold}. The chosen
+ * patterns are applied before the next pass.
+ * <p>
+ * Both counting and applying run on a {@link ForkJoinPool}: the words are
+ * split into ranges counted into separate primitive hash maps, which are
+ * merged as the tasks join. Words are kept as alphabet indexes in one
+ * array, and a candidate pattern is packed into a single {@code long} key.
+ * <p>
+ * Instances are immutable and can be shared between threads.
+ */
+public final class PatternGenerator {
+
+    /**
+     * Parameters of one pattern level, as given to patgen.
+     */
+    public static final class Level {
+
+        final int minLength;
+        final int maxLength;
+        final int goodWeight;
+        final int badWeight;
+        final int threshold;
+
+        /**
+         * @param minLength letters of the shortest pattern
+         * @param maxLength letters of the longest pattern
+         * @param goodWeight weight of a position the pattern fixes
+         * @param badWeight weight of a position the pattern breaks
+         * @param threshold least weighted score of a chosen pattern
+         */
+        public Level(int minLength, int maxLength, int goodWeight, int badWeight,
+                int threshold) {
+            if (minLength < 1 || maxLength < minLength) {
+                throw new IllegalArgumentException("Invalid pattern lengths: " + minLength + ", "
+                        + maxLength);
+            }
+            if (threshold < 1) {
+                throw new IllegalArgumentException("threshold must be positive: " + threshold);
+            }
+            this.minLength = minLength;
+            this.maxLength = maxLength;
+            this.goodWeight = goodWeight;
+            this.badWeight = badWeight;
+            this.threshold = threshold;
+        }
+    }
+
+    /**
+     * Levels of Liang's patterns for American English, suitable for word
+     * lists of some ten thousand words and more.
+     */
+    public static final List<Level> DEFAULT_LEVELS = Collections.unmodifiableList(Arrays.asList(
+            new Level(2, 5, 1, 2, 20),
+            new Level(2, 5, 2, 1, 8),
+            new Level(3, 6, 1, 4, 7),
+            new Level(3, 6, 2, 1, 1)));
+
+    /** Largest value a pattern digit can hold. */
+    private static final int MAX_LEVELS = 9;
+
+    /** Bits of the value position in a packed candidate. */
+    private static final int DOT_BITS = 4;
+
+    /** Number of words below which a task is not split any further. */
+    private static final int SPLIT_THRESHOLD = 1024;
+
+    private final int leftMin;
+    private final int rightMin;
+    private final List<Level> levels;
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a generator with the {@link #DEFAULT_LEVELS} running on the
+     * pool shared with {@link BatchHyphenator}.
+     *
+     * @param leftMin minimum number of characters before the first hyphen
+     * @param rightMin minimum number of characters after the last hyphen
+     */
+    public PatternGenerator(int leftMin, int rightMin) {
+        this(leftMin, rightMin, DEFAULT_LEVELS, BatchHyphenator.DefaultPool.POOL);
+    }
+
+    /**
+     * @param leftMin minimum number of characters before the first hyphen
+     * @param rightMin minimum number of characters after the last hyphen
+     * @param levels parameters of each level, at most 9
+     * @param pool pool running the counting tasks
+     */
+    public PatternGenerator(int leftMin, int rightMin, List<Level> levels, ForkJoinPool pool) {
+        if (levels.isEmpty() || levels.size() > MAX_LEVELS) {
+            throw new IllegalArgumentException("Between 1 and " + MAX_LEVELS
+                    + " levels required: " + levels.size());
+        }
+        this.leftMin = leftMin;
+        this.rightMin = rightMin;
+        this.levels = new ArrayList<Level>(levels);
+        this.pool = pool;
+    }
+
+    /**
+     * Trains patterns from words with hyphens at every allowed break point,
+     * e.g. {@code "hy-phen-ation"}. Case is ignored.
+     *
+     * @param hyphenatedWords the training words
+     * @return patterns by length, as in {@link HyphenationPattern#patterns}
+     * @throws IllegalArgumentException if a word contains a digit, white
+     *         space or {@code '_'}, which have a meaning in patterns
+     */
+    public Map<Integer, String> generate(Collection<? extends CharSequence> hyphenatedWords) {
+        Words words = Words.parse(hyphenatedWords);
+        int maxLength = (Long.SIZE - 1 - DOT_BITS) / words.bits;
+        // values of the chosen patterns by packed letters, one per position
+        Map<Long, int[]> patterns = new HashMap<Long, int[]>();
+        for (int level = 1; level <= levels.size(); level++) {
+            Level parameters = levels.get(level - 1);
+            if (parameters.maxLength > maxLength) {
+                throw new IllegalArgumentException("Patterns of " + parameters.maxLength
+                        + " letters exceed the limit of " + maxLength + " for "
+                        + words.symbols.length + " letters");
+            }
+            for (int length = parameters.minLength; length <= parameters.maxLength; length++) {
+                for (int dot = 0; dot <= length; dot++) {
+                    Pass pass = new Pass(words, level, length, dot, leftMin, rightMin);
+                    LongCountMap counts = pool.invoke(new CountTask(pass, 0, words.count()));
+                    LongCountMap chosen = choose(counts, parameters, patterns, pass);
+                    if (chosen.size() > 0) {
+                        pool.invoke(new ApplyTask(pass, chosen, 0, words.count()));
+                    }
+                }
+            }
+        }
+        return format(patterns, words);
+    }
+
+    private static LongCountMap choose(LongCountMap counts, Level parameters,
+            Map<Long, int[]> patterns, Pass pass) {
+        LongCountMap chosen = new LongCountMap();
+        for (int slot = 0; slot < counts.capacity(); slot++) {
+            long key = counts.keyAt(slot);
+            int good = counts.goodAt(slot);
+            int bad = counts.badAt(slot);
+            if (key == 0 || good == 0 || (long) good * parameters.goodWeight
+                    - (long) bad * parameters.badWeight < parameters.threshold) {
+                continue;
+            }
+            chosen.add(key, good, bad);
+            Long letters = key >>> DOT_BITS;
+            int[] values = patterns.get(letters);
+            if (values == null) {
+                values = new int[pass.length + 1];
+                patterns.put(letters, values);
+            }
+            values[pass.dot] = Math.max(values[pass.dot], pass.level);
+        }
+        return chosen;
+    }
+
+    /**
+     * Writes the patterns with their values as digits, grouped by the length
+     * of the pattern strings and sorted within each group.
+     */
+    private static Map<Integer, String> format(Map<Long, int[]> patterns, Words words) {
+        Map<Integer, List<String>> byLength = new TreeMap<Integer, List<String>>();
+        StringBuilder pattern = new StringBuilder();
+        int[] letters = new int[Long.SIZE];
+        for (Map.Entry<Long, int[]> entry : patterns.entrySet()) {
+            int[] values = entry.getValue();
+            int length = values.length - 1;
+            long packed = entry.getKey();
+            for (int i = length - 1; i >= 0; i--) {
+                letters[i] = words.symbols[(int) (packed & words.mask)];
+                packed >>>= words.bits;
+            }
+            pattern.setLength(0);
+            for (int i = 0; i <= length; i++) {
+                if (values[i] > 0) {
+                    pattern.append((char) ('0' + values[i]));
+                }
+                if (i < length) {
+                    pattern.appendCodePoint(letters[i]);
+                }
+            }
+            int key = pattern.length();
+            List<String> group = byLength.get(key);
+            if (group == null) {
+                group = new ArrayList<String>();
+                byLength.put(key, group);
+            }
+            group.add(pattern.toString());
+        }
+        Map<Integer, String> result = new TreeMap<Integer, String>();
+        StringBuilder joined = new StringBuilder();
+        for (Map.Entry<Integer, List<String>> entry : byLength.entrySet()) {
+            List<String> group = entry.getValue();
+            Collections.sort(group);
+            joined.setLength(0);
+            for (String p : group) {
+                joined.append(p);
+            }
+            result.put(entry.getKey(), joined.toString());
+        }
+        return result;
+    }
+
+    /**
+     * The training words as alphabet indexes framed by {@code '_'}, with the
+     * correct hyphens and the values of the patterns chosen so far.
+     */
+    static final class Words {
+
+        /** Code point of each alphabet index, index 0 is unused. */
+        final int[] symbols;
+        final int bits;
+        final long mask;
+        /** Alphabet indexes of all framed words back to back. */
+        final int[] letters;
+        /** Offset of each framed word in {@link #letters}, count + 1 long. */
+        final int[] starts;
+        /** Whether the word may be broken before the letter at the index. */
+        final boolean[] hyphens;
+        /** Highest value of the chosen patterns before the letter. */
+        final byte[] values;
+
+        private Words(int[] symbols, int[] letters, int[] starts, boolean[] hyphens) {
+            this.symbols = symbols;
+            this.bits = Math.max(1, 32 - Integer.numberOfLeadingZeros(symbols.length - 1));
+            this.mask = (1L << bits) - 1;
+            this.letters = letters;
+            this.starts = starts;
+            this.hyphens = hyphens;
+            this.values = new byte[letters.length];
+        }
+
+        int count() {
+            return starts.length - 1;
+        }
+
+        static Words parse(Collection<? extends CharSequence> hyphenatedWords) {
+            IntArrayList letters = new IntArrayList();
+            IntArrayList starts = new IntArrayList();
+            IntArrayList hyphens = new IntArrayList();
+            Map<Integer, Integer> alphabet = new HashMap<Integer, Integer>();
+            IntArrayList symbols = new IntArrayList();
+            symbols.add(0);
+            int frame = index('_', alphabet, symbols);
+            for (CharSequence word : hyphenatedWords) {
+                if (!hasLetters(word)) {
+                    continue;
+                }
+                int start = letters.size();
+                letters.add(frame);
+                boolean hyphen = false;
+                for (int i = 0; i < word.length(); ) {
+                    int codePoint = Character.codePointAt(word, i);
+                    i += Character.charCount(codePoint);
+                    if (codePoint == '-') {
+                        hyphen = letters.size() > start + 1;
+                        continue;
+                    }
+                    if (codePoint == '_' || Character.isDigit(codePoint)
+                            || Character.isWhitespace(codePoint)) {
+                        throw new IllegalArgumentException("Invalid letter in training word: "
+                                + word);
+                    }
+                    if (hyphen) {
+                        hyphens.add(letters.size());
+                        hyphen = false;
+                    }
+                    letters.add(index(Character.toLowerCase(codePoint), alphabet, symbols));
+                }
+                letters.add(frame);
+                starts.add(start);
+            }
+            starts.add(letters.size());
+            boolean[] hyphenFlags = new boolean[letters.size()];
+            for (int i = 0; i < hyphens.size(); i++) {
+                hyphenFlags[hyphens.get(i)] = true;
+            }
+            return new Words(symbols.toArray(), letters.toArray(), starts.toArray(),
+                    hyphenFlags);
+        }
+
+        private static boolean hasLetters(CharSequence word) {
+            for (int i = 0; i < word.length(); i++) {
+                if (word.charAt(i) != '-') {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static int index(int codePoint, Map<Integer, Integer> alphabet,
+                IntArrayList symbols) {
+            Integer index = alphabet.get(codePoint);
+            if (index == null) {
+                index = symbols.size();
+                alphabet.put(codePoint, index);
+                symbols.add(codePoint);
+            }
+            return index;
+        }
+    }
+
+    /**
+     * One pass over the words: the level, the number of letters of the
+     * candidates and the position of their value.
+     */
+    static final class Pass {
+
+        final Words words;
+        final int level;
+        final int length;
+        final int dot;
+        final int leftMin;
+        final int rightMin;
+
+        Pass(Words words, int level, int length, int dot, int leftMin, int rightMin) {
+            this.words = words;
+            this.level = level;
+            this.length = length;
+            this.dot = dot;
+            this.leftMin = leftMin;
+            this.rightMin = rightMin;
+        }
+
+        /**
+         * Returns the candidate putting the value before
+         * {@code letters[position]}, or 0 if it does not fit into the word
+         * {@code letters[start, end)}.
+         */
+        long candidate(int start, int end, int position) {
+            int from = position - dot;
+            if (from < start || from + length > end) {
+                return 0;
+            }
+            long key = 0;
+            for (int i = from; i < from + length; i++) {
+                key = key << words.bits | words.letters[i];
+            }
+            return key << DOT_BITS | dot;
+        }
+
+        /** First position of the word at which it may be broken. */
+        int first(int start) {
+            return start + leftMin + 1;
+        }
+
+        /** Position after the last at which the word may be broken. */
+        int last(int end) {
+            return end - rightMin;
+        }
+    }
+
+    private static final class CountTask extends RecursiveTask<LongCountMap> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Pass pass;
+        private final int from;
+        private final int to;
+
+        CountTask(Pass pass, int from, int to) {
+            this.pass = pass;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected LongCountMap compute() {
+            if (to - from > SPLIT_THRESHOLD) {
+                int mid = (from + to) >>> 1;
+                CountTask right = new CountTask(pass, mid, to);
+                right.fork();
+                LongCountMap left = new CountTask(pass, from, mid).compute();
+                LongCountMap joined = right.join();
+                // merge the smaller map into the larger one
+                if (left.size() < joined.size()) {
+                    joined.addAll(left);
+                    return joined;
+                }
+                left.addAll(joined);
+                return left;
+            }
+            Words words = pass.words;
+            boolean odd = (pass.level & 1) != 0;
+            LongCountMap counts = new LongCountMap();
+            for (int w = from; w < to; w++) {
+                int start = words.starts[w];
+                int end = words.starts[w + 1];
+                for (int p = pass.first(start), last = pass.last(end); p < last; p++) {
+                    // odd levels fix missing hyphens, even levels wrong ones
+                    boolean found = (words.values[p] & 1) != 0;
+                    if (found == odd) {
+                        continue;
+                    }
+                    long candidate = pass.candidate(start, end, p);
+                    if (candidate == 0) {
+                        continue;
+                    }
+                    boolean good = words.hyphens[p] == odd;
+                    counts.add(candidate, good ? 1 : 0, good ? 0 : 1);
+                }
+            }
+            return counts;
+        }
+    }
+
+    private static final class ApplyTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Pass pass;
+        private final LongCountMap chosen;
+        private final int from;
+        private final int to;
+
+        ApplyTask(Pass pass, LongCountMap chosen, int from, int to) {
+            this.pass = pass;
+            this.chosen = chosen;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > SPLIT_THRESHOLD) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new ApplyTask(pass, chosen, from, mid),
+                        new ApplyTask(pass, chosen, mid, to));
+                return;
+            }
+            Words words = pass.words;
+            for (int w = from; w < to; w++) {
+                int start = words.starts[w];
+                int end = words.starts[w + 1];
+                for (int p = pass.first(start), last = pass.last(end); p < last; p++) {
+                    long candidate = pass.candidate(start, end, p);
+                    if (candidate != 0 && chosen.contains(candidate)) {
+                        words.values[p] = (byte) pass.level;
+                    }
+                }
+            }
+        }
+    }
+}
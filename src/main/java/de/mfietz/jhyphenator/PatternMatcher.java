@@ -0,0 +1,15 @@
+package de.mfietz.jhyphenator;
+
+/**
+ * Finds the patterns occurring in a word and merges their values.
+ */
+interface PatternMatcher {
+
+    /**
+     * Merges the values of all patterns matching {@code codePoints[0..length)}
+     * into {@code points}, keeping the maximum value for each position. The
+     * points are packed as described in {@link PackedPoints} and must have
+     * room for {@link PackedPoints#words(int) words(length)} words.
+     */
+    void match(int[] codePoints, int length, long[] points);
+}
@@ -0,0 +1,134 @@
+package de.mfietz.jhyphenator;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+/**
+ * Read-only map of the pattern strings of one language, read from a classpath
+ * resource on first access.
+ * <p>
+ * The resource is UTF-8 text with one line per pattern length: the length, a
+ * space and the concatenated patterns of that length. Empty lines and lines
+ * starting with {@code '#'} are ignored.
+ */
+final class PatternResource extends AbstractMap<Integer, String> {
+
+    /** Classpath directory of the pattern resources, relative to this class. */
+    static final String RESOURCE_DIR = "patterns/";
+
+    private final String name;
+    private volatile Map<Integer, String> patterns;
+
+    PatternResource(String name) {
+        this.name = name;
+    }
+
+    private Map<Integer, String> patterns() {
+        Map<Integer, String> patterns = this.patterns;
+        if (patterns == null) {
+            synchronized (this) {
+                patterns = this.patterns;
+                if (patterns == null) {
+                    patterns = Collections.unmodifiableMap(read(name));
+                    this.patterns = patterns;
+                }
+            }
+        }
+        return patterns;
+    }
+
+    /**
+     * Returns whether the resource has been read.
+     */
+    boolean isLoaded() {
+        return patterns != null;
+    }
+
+    @Override
+    public Set<Entry<Integer, String>> entrySet() {
+        return patterns().entrySet();
+    }
+
+    @Override
+    public String get(Object key) {
+        return patterns().get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return patterns().containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return patterns().size();
+    }
+
+    /**
+     * Returns the CRC-32 of the bytes of the resource, which identifies the
+     * patterns a compiled trie was built from. Reads the resource without
+     * parsing it.
+     *
+     * @throws IllegalStateException if the resource is missing or unreadable
+     */
+    long checksum() {
+        InputStream in = open(name);
+        try {
+            try {
+                CRC32 crc = new CRC32();
+                byte[] buffer = new byte[8192];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    crc.update(buffer, 0, read);
+                }
+                return crc.getValue();
+            } finally {
+                in.close();
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read hyphenation patterns " + name, e);
+        }
+    }
+
+    private static InputStream open(String name) {
+        InputStream in = PatternResource.class.getResourceAsStream(name);
+        if (in == null) {
+            throw new IllegalStateException("Missing hyphenation patterns " + name);
+        }
+        return in;
+    }
+
+    private static Map<Integer, String> read(String name) {
+        InputStream in = open(name);
+        try {
+            try {
+                BufferedReader reader = new BufferedReader(new InputStreamReader(in, "UTF-8"));
+                Map<Integer, String> patterns = new HashMap<Integer, String>();
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.length() == 0 || line.charAt(0) == '#') {
+                        continue;
+                    }
+                    int space = line.indexOf(' ');
+                    patterns.put(Integer.valueOf(line.substring(0, space)),
+                            line.substring(space + 1));
+                }
+                return patterns;
+            } finally {
+                in.close();
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read hyphenation patterns " + name, e);
+        } catch (RuntimeException e) {
+            throw new IllegalStateException("Malformed hyphenation patterns " + name, e);
+        }
+    }
+}
@@ -0,0 +1,883 @@
+package de.mfietz.jhyphenator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable pattern trie flattened into a handful of primitive arrays.
+ * <p>
+ * Nodes are numbered in breadth-first order with the root at index 0. The
+ * outgoing edges of node {@code n} occupy the range
+ * {@code [firstEdge[n], firstEdge[n + 1])} of {@link #edgeLabels} and
+ * {@link #edgeTargets}, sorted by code point so that lookups can use a binary
+ * search. The value vector of a pattern ending in node {@code n} is packed
+ * into {@link #pointsPool} by {@link PackedPoints}, and {@code pointsRef[n]}
+ * references it. The vectors are only unpacked to transform or write the
+ * trie.
+ * <p>
+ * Nodes with many children, as well as the root and its children, which every
+ * lookup passes through, additionally get a dense row indexed by character
+ * class. The classes number the distinct code points of the patterns, so the
+ * rows stay small and such nodes are dispatched in constant time.
+ */
+final class PatternTrie implements PatternMatcher, Serializable {
+
+    private static final long serialVersionUID = 2L;
+
+    static final int ROOT = 0;
+
+    /** Edge ranges up to this size are scanned linearly. */
+    private static final int LINEAR_SCAN_THRESHOLD = 8;
+
+    /** Code points below this limit are mapped to their class by table lookup. */
+    private static final int DIRECT_CLASS_LIMIT = 0x3000;
+
+    private final int[] firstEdge;
+    private final int[] edgeLabels;
+    private final int[] edgeTargets;
+    /** {@link PackedPoints} reference of the value vector of each node, or -1. */
+    private final int[] pointsRef;
+    /** Value vectors packed by {@link PackedPoints#pack}. */
+    private final long[] pointsPool;
+
+    // dispatch tables derived from the edges by initDispatch()
+    /** Distinct edge labels in ascending order, the index is the class. */
+    private transient int[] alphabet;
+    /** Class + 1 of every code point below its length, 0 if not in the alphabet. */
+    private transient char[] directClass;
+    /** Offset of the dense row of each node in {@link #dense}, or -1. */
+    private transient int[] denseRow;
+    /** Target + 1 for every class of every dense row, 0 if there is no edge. */
+    private transient int[] dense;
+
+    /** Pattern count and maximum depth, computed on first use. */
+    private transient volatile long shape;
+
+    /** Aho-Corasick automaton over the patterns, built on first use. */
+    private transient volatile AhoCorasickMatcher ahoCorasick;
+
+    /**
+     * Creates a trie from value vectors stored as ints, each prefixed by its
+     * length in {@code pointsPool} and starting at {@code pointsOffset[n]}
+     * for node {@code n}, or -1. The vectors are packed, the int arrays are
+     * not kept.
+     *
+     * @throws IllegalArgumentException if a vector cannot be packed
+     */
+    PatternTrie(int[] firstEdge, int[] edgeLabels, int[] edgeTargets, int[] pointsOffset,
+            int[] pointsPool) {
+        this(firstEdge, edgeLabels, edgeTargets, new int[pointsOffset.length],
+                pointsOffset, pointsPool);
+    }
+
+    private PatternTrie(int[] firstEdge, int[] edgeLabels, int[] edgeTargets, int[] pointsRef,
+            int[] pointsOffset, int[] pointsPool) {
+        this.firstEdge = firstEdge;
+        this.edgeLabels = edgeLabels;
+        this.edgeTargets = edgeTargets;
+        this.pointsRef = pointsRef;
+        this.pointsPool = PackedPoints.pack(pointsOffset, pointsPool, pointsRef);
+        int[] alphabet = alphabet(edgeLabels);
+        initDispatch(alphabet, directClass(alphabet));
+    }
+
+    /**
+     * Creates a trie sharing the arrays of {@code trie} whose dispatch tables
+     * use the given alphabet, a superset of the edge labels, and its
+     * {@link #directClass(int[]) class table}. Tries built from parts of one
+     * pattern set can share them this way.
+     */
+    PatternTrie(PatternTrie trie, int[] alphabet, char[] directClass) {
+        this.firstEdge = trie.firstEdge;
+        this.edgeLabels = trie.edgeLabels;
+        this.edgeTargets = trie.edgeTargets;
+        this.pointsRef = trie.pointsRef;
+        this.pointsPool = trie.pointsPool;
+        initDispatch(alphabet, directClass);
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        int[] alphabet = alphabet(edgeLabels);
+        initDispatch(alphabet, directClass(alphabet));
+    }
+
+    /**
+     * Returns the distinct values of {@code labels} in ascending order.
+     */
+    static int[] alphabet(int[] labels) {
+        // marking is much cheaper than sorting while a trie is loaded cold
+        boolean[] seen = new boolean[DIRECT_CLASS_LIMIT];
+        int classes = 0;
+        for (int label : labels) {
+            if (label < 0 || label >= DIRECT_CLASS_LIMIT) {
+                classes = -1;
+                break;
+            }
+            if (!seen[label]) {
+                seen[label] = true;
+                classes++;
+            }
+        }
+        if (classes >= 0) {
+            int[] alphabet = new int[classes];
+            for (int c = 0, i = 0; i < classes; c++) {
+                if (seen[c]) {
+                    alphabet[i++] = c;
+                }
+            }
+            return alphabet;
+        }
+        labels = labels.clone();
+        Arrays.sort(labels);
+        classes = 0;
+        for (int i = 0; i < labels.length; i++) {
+            if (i == 0 || labels[i] != labels[i - 1]) {
+                labels[classes++] = labels[i];
+            }
+        }
+        return Arrays.copyOf(labels, classes);
+    }
+
+    /**
+     * Returns class + 1 of every code point up to the last one of
+     * {@code alphabet} below {@link #DIRECT_CLASS_LIMIT}.
+     */
+    static char[] directClass(int[] alphabet) {
+        int directLength = 0;
+        for (int c = 0; c < alphabet.length && alphabet[c] < DIRECT_CLASS_LIMIT; c++) {
+            directLength = alphabet[c] + 1;
+        }
+        char[] directClass = new char[directLength];
+        for (int c = 0; c < alphabet.length && alphabet[c] < directLength; c++) {
+            directClass[alphabet[c]] = (char) (c + 1);
+        }
+        return directClass;
+    }
+
+    private void initDispatch(int[] alphabet, char[] directClass) {
+        this.alphabet = alphabet;
+        this.directClass = directClass;
+        int classes = alphabet.length;
+
+        int nodeCount = nodeCount();
+        denseRow = new int[nodeCount];
+        Arrays.fill(denseRow, -1);
+        int rows = 0;
+        for (int n = 0; n < nodeCount; n++) {
+            if (isDense(n)) {
+                denseRow[n] = rows++ * classes;
+            }
+        }
+        for (int e = firstEdge[ROOT]; e < firstEdge[ROOT + 1]; e++) {
+            int n = edgeTargets[e];
+            if (denseRow[n] < 0 && firstEdge[n + 1] - firstEdge[n] > 1) {
+                denseRow[n] = rows++ * classes;
+            }
+        }
+        dense = new int[rows * classes];
+        for (int n = 0; n < nodeCount; n++) {
+            int row = denseRow[n];
+            if (row >= 0) {
+                for (int e = firstEdge[n]; e < firstEdge[n + 1]; e++) {
+                    dense[row + classOf(edgeLabels[e])] = edgeTargets[e] + 1;
+                }
+            }
+        }
+    }
+
+    private boolean isDense(int node) {
+        return node == ROOT || firstEdge[node + 1] - firstEdge[node] > LINEAR_SCAN_THRESHOLD;
+    }
+
+    /**
+     * Returns the character class of {@code codePoint}, or -1 if it does not
+     * occur in any pattern.
+     */
+    int classOf(int codePoint) {
+        if (codePoint < directClass.length) {
+            return directClass[codePoint] - 1;
+        }
+        int c = Arrays.binarySearch(alphabet, codePoint);
+        return c >= 0 ? c : -1;
+    }
+
+    /**
+     * Flattens a trie built from {@link TrieNode}s and compacts it.
+     */
+    static PatternTrie flatten(TrieNode root) {
+        return flatten(root, true);
+    }
+
+    /**
+     * Flattens a trie built from {@link TrieNode}s, optionally merging
+     * identical subtrees. Without compaction the result is a tree.
+     */
+    static PatternTrie flatten(TrieNode root, boolean compact) {
+        int nodeCount = 0;
+        int pointsSize = 0;
+        TrieNode[] queue = new TrieNode[16];
+        queue[nodeCount++] = root;
+        for (int head = 0; head < nodeCount; head++) {
+            TrieNode node = queue[head];
+            if (node.points != null) {
+                pointsSize += node.points.length + 1;
+            }
+            IntTrieNodeArrayMap children = node.codePoint;
+            for (int i = 0; i < children.size(); i++) {
+                if (nodeCount == queue.length) {
+                    queue = Arrays.copyOf(queue, nodeCount * 2);
+                }
+                queue[nodeCount++] = children.valueAt(i);
+            }
+        }
+
+        int[] firstEdge = new int[nodeCount + 1];
+        int[] edgeLabels = new int[nodeCount - 1];
+        int[] edgeTargets = new int[nodeCount - 1];
+        int[] pointsOffset = new int[nodeCount];
+        int[] pointsPool = new int[pointsSize];
+
+        // children are enqueued in the same order as above, so the target of
+        // the i-th edge overall is node i + 1
+        int edge = 0;
+        int pool = 0;
+        for (int n = 0; n < nodeCount; n++) {
+            TrieNode node = queue[n];
+            firstEdge[n] = edge;
+            IntTrieNodeArrayMap children = node.codePoint;
+            for (int i = 0; i < children.size(); i++) {
+                edgeLabels[edge] = children.keyAt(i);
+                edgeTargets[edge] = edge + 1;
+                edge++;
+            }
+            sortEdges(edgeLabels, edgeTargets, firstEdge[n], edge);
+            if (node.points != null) {
+                pointsOffset[n] = pool;
+                pointsPool[pool++] = node.points.length;
+                System.arraycopy(node.points, 0, pointsPool, pool, node.points.length);
+                pool += node.points.length;
+            } else {
+                pointsOffset[n] = -1;
+            }
+        }
+        firstEdge[nodeCount] = edge;
+        PatternTrie trie = new PatternTrie(firstEdge, edgeLabels, edgeTargets, pointsOffset,
+                pointsPool);
+        return compact ? trie.compact() : trie;
+    }
+
+    /**
+     * Unfolds this trie into a tree of {@link TrieNode}s, duplicating merged
+     * subtrees.
+     */
+    TrieNode toTree() {
+        return toTree(ROOT);
+    }
+
+    private TrieNode toTree(int n) {
+        // recursion depth is bounded by the longest pattern
+        TrieNode node = new TrieNode();
+        node.points = values(n);
+        for (int e = firstEdge[n]; e < firstEdge[n + 1]; e++) {
+            node.codePoint.put(edgeLabels[e], toTree(edgeTargets[e]));
+        }
+        return node;
+    }
+
+    /**
+     * Returns a trie of the same patterns whose edges are labeled with the
+     * UTF-8 bytes of the letters. The value vectors hold one value per byte:
+     * the value before a letter belongs to its first byte, the positions
+     * inside a multi-byte letter get 0.
+     */
+    PatternTrie toUtf8() {
+        TrieNode root = new TrieNode();
+        // byte offset of every letter of the current path, and one past it
+        int[] byteOffsets = new int[maxDepth() + 2];
+        toUtf8(ROOT, root, 0, byteOffsets, new int[4]);
+        return flatten(root);
+    }
+
+    private void toUtf8(int n, TrieNode node, int depth, int[] byteOffsets, int[] encoded) {
+        // recursion depth is bounded by the longest pattern
+        int[] values = values(n);
+        if (values != null) {
+            node.points = new int[byteOffsets[depth] + 1];
+            for (int d = 0; d < values.length && d <= depth; d++) {
+                node.points[byteOffsets[d]] = values[d];
+            }
+        }
+        for (int e = firstEdge[n]; e < firstEdge[n + 1]; e++) {
+            int byteCount = Utf8.encode(edgeLabels[e], encoded, 0);
+            TrieNode child = node;
+            for (int b = 0; b < byteCount; b++) {
+                TrieNode next = child.codePoint.get(encoded[b]);
+                if (next == null) {
+                    next = new TrieNode();
+                    child.codePoint.put(encoded[b], next);
+                }
+                child = next;
+            }
+            byteOffsets[depth + 1] = byteOffsets[depth] + byteCount;
+            toUtf8(edgeTargets[e], child, depth + 1, byteOffsets, encoded);
+        }
+    }
+
+    /**
+     * Returns the value vector of {@code node}, or {@code null} if no pattern
+     * ends in it.
+     */
+    int[] values(int node) {
+        int ref = pointsRef[node];
+        return ref >= 0 ? PackedPoints.unpack(pointsPool, ref) : null;
+    }
+
+    int firstEdge(int node) {
+        return firstEdge[node];
+    }
+
+    int edgeTarget(int edge) {
+        return edgeTargets[edge];
+    }
+
+    int edgeLabel(int edge) {
+        return edgeLabels[edge];
+    }
+
+    /**
+     * Returns an equivalent trie in which identical value vectors are stored
+     * only once and identical subtrees are merged, turning the trie into a
+     * minimal acyclic automaton (DAFSA). Matching walks it exactly like the
+     * original trie.
+     * <p>
+     * Requires every edge to point to a higher node index, which holds for
+     * the breadth-first tree built by {@link #flatten(TrieNode)}.
+     */
+    private PatternTrie compact() {
+        final int nodeCount = nodeCount();
+
+        // intern the value vectors
+        Map<IntArray, Integer> vectors = new HashMap<IntArray, Integer>();
+        IntArrayList pool = new IntArrayList(pointsPool.length * 8);
+        int[] internedOffset = new int[nodeCount];
+        for (int n = 0; n < nodeCount; n++) {
+            int[] values = values(n);
+            if (values == null) {
+                internedOffset[n] = -1;
+                continue;
+            }
+            int[] prefixed = new int[1 + values.length];
+            prefixed[0] = values.length;
+            System.arraycopy(values, 0, prefixed, 1, values.length);
+            IntArray vector = new IntArray(prefixed);
+            Integer interned = vectors.get(vector);
+            if (interned == null) {
+                interned = pool.size();
+                vectors.put(vector, interned);
+                pool.addAll(vector.values);
+            }
+            internedOffset[n] = interned;
+        }
+
+        // merge identical subtrees bottom-up: a node is identified by its
+        // value vector and its edges to already merged children
+        Map<IntArray, Integer> signatures = new HashMap<IntArray, Integer>();
+        int[] canonical = new int[nodeCount];
+        for (int n = nodeCount - 1; n >= 0; n--) {
+            int from = firstEdge[n];
+            int to = firstEdge[n + 1];
+            int[] signature = new int[1 + 2 * (to - from)];
+            signature[0] = internedOffset[n];
+            for (int e = from, i = 1; e < to; e++) {
+                signature[i++] = edgeLabels[e];
+                signature[i++] = canonical[edgeTargets[e]];
+            }
+            IntArray key = new IntArray(signature);
+            Integer existing = signatures.get(key);
+            if (existing == null) {
+                signatures.put(key, n);
+                canonical[n] = n;
+            } else {
+                canonical[n] = existing;
+            }
+        }
+
+        // renumber the remaining nodes breadth-first
+        int[] newIndex = new int[nodeCount];
+        Arrays.fill(newIndex, -1);
+        int[] order = new int[signatures.size()];
+        int size = 0;
+        int edgeCount = 0;
+        order[size] = ROOT;
+        newIndex[ROOT] = size++;
+        for (int head = 0; head < size; head++) {
+            int n = order[head];
+            edgeCount += firstEdge[n + 1] - firstEdge[n];
+            for (int e = firstEdge[n]; e < firstEdge[n + 1]; e++) {
+                int target = canonical[edgeTargets[e]];
+                if (newIndex[target] < 0) {
+                    order[size] = target;
+                    newIndex[target] = size++;
+                }
+            }
+        }
+
+        int[] newFirstEdge = new int[size + 1];
+        int[] newLabels = new int[edgeCount];
+        int[] newTargets = new int[edgeCount];
+        int[] newPointsOffset = new int[size];
+        int edge = 0;
+        for (int i = 0; i < size; i++) {
+            int n = order[i];
+            newFirstEdge[i] = edge;
+            newPointsOffset[i] = internedOffset[n];
+            for (int e = firstEdge[n]; e < firstEdge[n + 1]; e++) {
+                newLabels[edge] = edgeLabels[e];
+                newTargets[edge] = newIndex[canonical[edgeTargets[e]]];
+                edge++;
+            }
+        }
+        newFirstEdge[size] = edge;
+        return new PatternTrie(newFirstEdge, newLabels, newTargets, newPointsOffset,
+                pool.toArray());
+    }
+
+    private static void sortEdges(int[] labels, int[] targets, int from, int to) {
+        // insertion sort, edge ranges are short
+        for (int i = from + 1; i < to; i++) {
+            int label = labels[i];
+            int target = targets[i];
+            int j = i - 1;
+            while (j >= from && labels[j] > label) {
+                labels[j + 1] = labels[j];
+                targets[j + 1] = targets[j];
+                j--;
+            }
+            labels[j + 1] = label;
+            targets[j + 1] = target;
+        }
+    }
+
+    /**
+     * An int[] with value semantics, used as hash key while compacting.
+     */
+    private static final class IntArray {
+
+        final int[] values;
+        private final int hash;
+
+        IntArray(int[] values) {
+            this.values = values;
+            this.hash = Arrays.hashCode(values);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof IntArray && Arrays.equals(values, ((IntArray) o).values);
+        }
+    }
+
+    /**
+     * Writes the arrays of this trie, each prefixed by its length.
+     */
+    void write(DataOutput out) throws IOException {
+        IntArrayList pool = new IntArrayList();
+        int[] pointsOffset = unpack(pool);
+        writeInts(out, firstEdge);
+        writeInts(out, edgeLabels);
+        writeInts(out, edgeTargets);
+        writeInts(out, pointsOffset);
+        writeInts(out, pool.toArray());
+    }
+
+    /**
+     * Unpacks the value vectors into {@code pool}, each prefixed by its
+     * length, and returns the offset of the vector of each node, or -1.
+     * Vectors shared by several nodes are written once.
+     */
+    private int[] unpack(IntArrayList pool) {
+        int[] pointsOffset = new int[pointsRef.length];
+        Map<Integer, Integer> offsetByRef = new HashMap<Integer, Integer>();
+        for (int n = 0; n < pointsRef.length; n++) {
+            int ref = pointsRef[n];
+            if (ref < 0) {
+                pointsOffset[n] = -1;
+                continue;
+            }
+            Integer offset = offsetByRef.get(ref);
+            if (offset == null) {
+                offset = pool.size();
+                offsetByRef.put(ref, offset);
+                pool.add(PackedPoints.length(ref));
+                pool.addAll(PackedPoints.unpack(pointsPool, ref));
+            }
+            pointsOffset[n] = offset;
+        }
+        return pointsOffset;
+    }
+
+    /**
+     * Reads a trie written by {@link #write} starting at the current position
+     * of {@code buffer}. Each array is bulk-copied out of the buffer, so this
+     * works equally well on heap and memory-mapped buffers.
+     *
+     * @throws IllegalArgumentException if the arrays are truncated or do not
+     *         form a valid trie
+     */
+    static PatternTrie read(ByteBuffer buffer) {
+        IntBuffer ints = buffer.asIntBuffer();
+        int[] firstEdge = readInts(ints);
+        int[] edgeLabels = readInts(ints);
+        int[] edgeTargets = readInts(ints);
+        int[] pointsOffset = readInts(ints);
+        int[] pointsPool = readInts(ints);
+        validate(firstEdge, edgeLabels, edgeTargets, pointsOffset, pointsPool);
+        buffer.position(buffer.position() + ints.position() * 4);
+        return new PatternTrie(firstEdge, edgeLabels, edgeTargets, pointsOffset, pointsPool);
+    }
+
+    /**
+     * Checks that arrays read from outside form a trie that can be walked
+     * without leaving the arrays.
+     *
+     * @throws IllegalArgumentException if they do not
+     */
+    private static void validate(int[] firstEdge, int[] edgeLabels, int[] edgeTargets,
+            int[] pointsOffset, int[] pointsPool) {
+        int nodeCount = pointsOffset.length;
+        if (nodeCount < 1 || firstEdge.length != nodeCount + 1 || firstEdge[0] != 0
+                || firstEdge[nodeCount] != edgeLabels.length
+                || edgeTargets.length != edgeLabels.length) {
+            throw new IllegalArgumentException("Inconsistent pattern trie array lengths");
+        }
+        for (int n = 0; n < nodeCount; n++) {
+            if (firstEdge[n + 1] < firstEdge[n]) {
+                throw new IllegalArgumentException("Invalid edge range of node " + n);
+            }
+        }
+        for (int e = 0; e < edgeTargets.length; e++) {
+            if (edgeTargets[e] <= ROOT || edgeTargets[e] >= nodeCount) {
+                throw new IllegalArgumentException("Invalid edge target " + edgeTargets[e]);
+            }
+        }
+        // the pool is a sequence of length-prefixed vectors
+        boolean[] vectorStart = new boolean[pointsPool.length];
+        for (int offset = 0; offset < pointsPool.length; offset += 1 + pointsPool[offset]) {
+            if (pointsPool[offset] < 0 || pointsPool[offset] >= pointsPool.length - offset) {
+                throw new IllegalArgumentException("Invalid value vector at " + offset);
+            }
+            vectorStart[offset] = true;
+        }
+        for (int n = 0; n < nodeCount; n++) {
+            int offset = pointsOffset[n];
+            if (offset < -1 || offset >= pointsPool.length || offset >= 0 && !vectorStart[offset]) {
+                throw new IllegalArgumentException("Invalid value offset of node " + n);
+            }
+        }
+    }
+
+    /**
+     * Writes the arrays of this trie as zigzag-encoded deltas in variable
+     * length, mostly one or two bytes per value instead of four. Used for
+     * serialization, where the size of the payload matters more than being
+     * able to map it. The encoded arrays are written as one block so that
+     * reading them back is a single bulk read.
+     */
+    void writePacked(DataOutput out) throws IOException {
+        IntArrayList pool = new IntArrayList();
+        int[] pointsOffset = unpack(pool);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(pool.size() * 4);
+        writePacked(bytes, firstEdge);
+        writePacked(bytes, edgeLabels);
+        writePacked(bytes, edgeTargets);
+        writePacked(bytes, pointsOffset);
+        writePacked(bytes, pool.toArray());
+        out.writeInt(bytes.size());
+        out.write(bytes.toByteArray());
+    }
+
+    /**
+     * Reads a trie written by {@link #writePacked}.
+     */
+    static PatternTrie readPacked(DataInput in) throws IOException {
+        int size = in.readInt();
+        if (size < 0) {
+            throw new IOException("Negative block size " + size);
+        }
+        byte[] bytes = new byte[size];
+        in.readFully(bytes);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        try {
+            int[] firstEdge = readPacked(buffer, size);
+            if (firstEdge.length < 2) {
+                throw new IOException("Corrupt pattern trie");
+            }
+            int[] edgeLabels = readPacked(buffer, firstEdge[firstEdge.length - 1]);
+            int[] edgeTargets = readPacked(buffer, edgeLabels.length);
+            int[] pointsOffset = readPacked(buffer, firstEdge.length - 1);
+            int[] pointsPool = readPacked(buffer, size);
+            validate(firstEdge, edgeLabels, edgeTargets, pointsOffset, pointsPool);
+            return new PatternTrie(firstEdge, edgeLabels, edgeTargets, pointsOffset, pointsPool);
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Truncated pattern trie", e);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Corrupt pattern trie", e);
+        }
+    }
+
+    private static void writePacked(ByteArrayOutputStream out, int[] values) {
+        writeVarInt(out, values.length);
+        int previous = 0;
+        for (int value : values) {
+            int delta = value - previous;
+            writeVarInt(out, (delta << 1) ^ (delta >> 31));
+            previous = value;
+        }
+    }
+
+    private static int[] readPacked(ByteBuffer in, int maxLength) throws IOException {
+        int length = readVarInt(in);
+        if (length < 0 || length > maxLength) {
+            throw new IOException("Invalid array length " + length);
+        }
+        int[] values = new int[length];
+        int previous = 0;
+        for (int i = 0; i < length; i++) {
+            int zigzag = readVarInt(in);
+            previous += (zigzag >>> 1) ^ -(zigzag & 1);
+            values[i] = previous;
+        }
+        return values;
+    }
+
+    private static void writeVarInt(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int readVarInt(ByteBuffer in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable length integer");
+    }
+
+    static void writeInts(DataOutput out, int[] values) throws IOException {
+        out.writeInt(values.length);
+        for (int value : values) {
+            out.writeInt(value);
+        }
+    }
+
+    private static int[] readInts(IntBuffer in) {
+        int length = in.get();
+        if (length < 0 || length > in.remaining()) {
+            throw new IllegalArgumentException("Invalid array length " + length);
+        }
+        int[] values = new int[length];
+        in.get(values);
+        return values;
+    }
+
+    static int[] readInts(DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            throw new IOException("Negative array length " + length);
+        }
+        int[] values = new int[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = in.readInt();
+        }
+        return values;
+    }
+
+    int nodeCount() {
+        return pointsRef.length;
+    }
+
+    /**
+     * Returns the Aho-Corasick automaton over the patterns of this trie,
+     * building it on the first call.
+     */
+    AhoCorasickMatcher ahoCorasick() {
+        AhoCorasickMatcher ahoCorasick = this.ahoCorasick;
+        if (ahoCorasick == null) {
+            synchronized (this) {
+                ahoCorasick = this.ahoCorasick;
+                if (ahoCorasick == null) {
+                    ahoCorasick = AhoCorasickMatcher.build(this);
+                    this.ahoCorasick = ahoCorasick;
+                }
+            }
+        }
+        return ahoCorasick;
+    }
+
+    /**
+     * Returns the number of patterns, i.e. of paths from the root to a node
+     * with a value vector.
+     */
+    int patternCount() {
+        return (int) (shape() >>> 32);
+    }
+
+    /**
+     * Returns the number of letters of the longest pattern.
+     */
+    int maxDepth() {
+        return (int) shape();
+    }
+
+    private long shape() {
+        long shape = this.shape;
+        if (shape == 0) {
+            shape = computeShape();
+            this.shape = shape;
+        }
+        return shape;
+    }
+
+    /**
+     * Counts the patterns and the longest path with an iterative post-order
+     * walk, which also works after subtrees have been merged.
+     */
+    private long computeShape() {
+        final int nodeCount = nodeCount();
+        int[] patterns = new int[nodeCount];
+        int[] depth = new int[nodeCount];
+        int[] cursor = new int[nodeCount];
+        boolean[] done = new boolean[nodeCount];
+        int[] stack = new int[nodeCount];
+        int top = 0;
+        stack[top++] = ROOT;
+        cursor[ROOT] = firstEdge[ROOT];
+        while (top > 0) {
+            int n = stack[top - 1];
+            if (cursor[n] < firstEdge[n + 1]) {
+                int child = edgeTargets[cursor[n]++];
+                if (!done[child]) {
+                    cursor[child] = firstEdge[child];
+                    stack[top++] = child;
+                }
+                continue;
+            }
+            int count = pointsRef[n] >= 0 ? 1 : 0;
+            int max = 0;
+            for (int e = firstEdge[n]; e < firstEdge[n + 1]; e++) {
+                count += patterns[edgeTargets[e]];
+                max = Math.max(max, depth[edgeTargets[e]] + 1);
+            }
+            patterns[n] = count;
+            depth[n] = max;
+            done[n] = true;
+            top--;
+        }
+        return ((long) patterns[ROOT] << 32) | depth[ROOT];
+    }
+
+    /**
+     * Returns the approximate heap size of this trie in bytes, including its
+     * Aho-Corasick automaton once built.
+     */
+    long estimatedBytes() {
+        AhoCorasickMatcher ahoCorasick = this.ahoCorasick;
+        return 64 + arrayBytes(firstEdge) + arrayBytes(edgeLabels) + arrayBytes(edgeTargets)
+                + arrayBytes(pointsRef) + 16 + 8L * pointsPool.length + arrayBytes(alphabet)
+                + 16 + 2L * directClass.length + arrayBytes(denseRow) + arrayBytes(dense)
+                + (ahoCorasick != null ? ahoCorasick.estimatedBytes() : 0);
+    }
+
+    static long arrayBytes(int[] array) {
+        return 16 + 4L * array.length;
+    }
+
+    /**
+     * Returns the child of {@code node} reached by {@code codePoint} or -1 if
+     * there is none.
+     */
+    int child(int node, int codePoint) {
+        int row = denseRow[node];
+        if (row >= 0) {
+            int c = classOf(codePoint);
+            return c >= 0 ? dense[row + c] - 1 : -1;
+        }
+        final int[] labels = edgeLabels;
+        int lo = firstEdge[node];
+        int hi = firstEdge[node + 1] - 1;
+        if (hi - lo < LINEAR_SCAN_THRESHOLD) {
+            for (; lo <= hi; lo++) {
+                int label = labels[lo];
+                if (label == codePoint) {
+                    return edgeTargets[lo];
+                }
+                if (label > codePoint) {
+                    return -1;
+                }
+            }
+            return -1;
+        }
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int label = labels[mid];
+            if (label < codePoint) {
+                lo = mid + 1;
+            } else if (label > codePoint) {
+                hi = mid - 1;
+            } else {
+                return edgeTargets[mid];
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void match(int[] codePoints, int length, long[] points) {
+        for (int i = 0; i < length; i++) {
+            matchAt(codePoints, i, length, points);
+        }
+    }
+
+    /**
+     * Merges the value vectors of all patterns starting at {@code start}
+     * into {@code points}.
+     */
+    void matchAt(int[] codePoints, int start, int length, long[] points) {
+        final int[] refs = pointsRef;
+        final long[] pool = pointsPool;
+        int node = ROOT;
+        for (int j = start; j < length; j++) {
+            node = child(node, codePoints[j]);
+            if (node < 0) {
+                return;
+            }
+            int ref = refs[node];
+            if (ref >= 0) {
+                PackedPoints.merge(points, start, pool, ref);
+            }
+        }
+    }
+}
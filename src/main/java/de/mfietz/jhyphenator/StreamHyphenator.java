@@ -0,0 +1,217 @@
+package de.mfietz.jhyphenator;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+
+/**
+ * Copies text from a {@link Readable} to an {@link Appendable} and inserts a
+ * marker, by default the soft hyphen U+00AD, at every hyphenation point.
+ * <p>
+ * The text is processed in a single pass through a fixed-size buffer, so
+ * documents of any size are hyphenated in bounded memory. A word is a run of
+ * letters and combining marks; words longer than {@code maxWordLength} are
+ * copied unchanged. If markup skipping is enabled, tags ({@code <...>}) and
+ * character references ({@code &...;}) are copied unchanged as well, which
+ * makes it suitable for HTML and XHTML content.
+ * <p>
+ * Instances are immutable and can be shared between threads.
+ */
+public final class StreamHyphenator {
+
+    public static final String SOFT_HYPHEN = "\u00AD";
+
+    public static final int DEFAULT_MAX_WORD_LENGTH = 128;
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final int TEXT = 0;
+    private static final int TAG = 1;
+    private static final int ENTITY = 2;
+
+    private static final int NO_WORD = 0;
+    private static final int WORD = 1;
+    private static final int LONG_WORD = 2;
+
+    private final Hyphenator hyphenator;
+    private final String marker;
+    private final boolean skipMarkup;
+    private final int maxWordLength;
+
+    /**
+     * Creates a stream hyphenator inserting soft hyphens into plain text.
+     *
+     * @param hyphenator hyphenator for the language of the text
+     */
+    public StreamHyphenator(Hyphenator hyphenator) {
+        this(hyphenator, SOFT_HYPHEN, false);
+    }
+
+    /**
+     * @param hyphenator hyphenator for the language of the text
+     * @param marker text inserted at every hyphenation point
+     * @param skipMarkup whether tags and character references are skipped
+     */
+    public StreamHyphenator(Hyphenator hyphenator, String marker, boolean skipMarkup) {
+        this(hyphenator, marker, skipMarkup, DEFAULT_MAX_WORD_LENGTH);
+    }
+
+    /**
+     * @param hyphenator hyphenator for the language of the text
+     * @param marker text inserted at every hyphenation point
+     * @param skipMarkup whether tags and character references are skipped
+     * @param maxWordLength length in chars above which words are not
+     *        hyphenated
+     */
+    public StreamHyphenator(Hyphenator hyphenator, String marker, boolean skipMarkup,
+            int maxWordLength) {
+        if (maxWordLength < 1) {
+            throw new IllegalArgumentException("maxWordLength must be positive: " + maxWordLength);
+        }
+        this.hyphenator = hyphenator;
+        this.marker = marker;
+        this.skipMarkup = skipMarkup;
+        this.maxWordLength = maxWordLength;
+    }
+
+    /**
+     * Copies all text from {@code in} to {@code out}, inserting the marker at
+     * every hyphenation point. Neither {@code in} nor {@code out} is closed.
+     *
+     * @param in source, e.g. a {@link java.io.Reader} or a {@link CharBuffer}
+     * @param out destination, e.g. a {@link Writer} or a {@link StringBuilder}
+     * @throws IOException if reading or writing fails
+     */
+    public void hyphenate(Readable in, Appendable out) throws IOException {
+        CharBuffer buffer = CharBuffer.allocate(BUFFER_SIZE);
+        char[] chars = buffer.array();
+        char[] word = new char[maxWordLength];
+        CharBuffer wordSequence = CharBuffer.wrap(word);
+        int[] breaks = new int[maxWordLength];
+        int wordLength = 0;
+        int wordState = NO_WORD;
+        int markupState = TEXT;
+
+        while (true) {
+            boolean eof = in.read(buffer) < 0;
+            buffer.flip();
+            int pos = buffer.position();
+            int limit = buffer.limit();
+            // start of the pending run of text that is copied unchanged
+            int runStart = pos;
+            while (pos < limit) {
+                char c = chars[pos];
+                int codePoint = c;
+                int charCount = 1;
+                if (Character.isHighSurrogate(c)) {
+                    if (pos + 1 < limit) {
+                        if (Character.isLowSurrogate(chars[pos + 1])) {
+                            codePoint = Character.toCodePoint(c, chars[pos + 1]);
+                            charCount = 2;
+                        }
+                    } else if (!eof) {
+                        // wait for the low surrogate in the next chunk
+                        break;
+                    }
+                }
+
+                boolean markup = false;
+                if (markupState == TAG) {
+                    markup = true;
+                    if (c == '>') {
+                        markupState = TEXT;
+                    }
+                } else if (markupState == ENTITY) {
+                    if (c == ';' || c == '#' || Character.isLetterOrDigit(c)) {
+                        markup = true;
+                        if (c == ';') {
+                            markupState = TEXT;
+                        }
+                    } else {
+                        // malformed reference, treat c as text
+                        markupState = TEXT;
+                    }
+                }
+                if (!markup && skipMarkup && (c == '<' || c == '&')) {
+                    markup = true;
+                    markupState = c == '<' ? TAG : ENTITY;
+                }
+
+                if (!markup && isWordChar(codePoint)) {
+                    if (wordState == NO_WORD) {
+                        write(out, chars, runStart, pos - runStart);
+                        wordState = WORD;
+                        wordLength = 0;
+                    }
+                    if (wordState == WORD) {
+                        if (wordLength + charCount > maxWordLength) {
+                            // too long, copy it unchanged
+                            write(out, word, 0, wordLength);
+                            wordState = LONG_WORD;
+                            runStart = pos;
+                        } else {
+                            word[wordLength++] = c;
+                            if (charCount == 2) {
+                                word[wordLength++] = chars[pos + 1];
+                            }
+                        }
+                    }
+                } else {
+                    if (wordState == WORD) {
+                        writeWord(out, word, wordSequence, wordLength, breaks);
+                        runStart = pos;
+                    }
+                    wordState = NO_WORD;
+                }
+                pos += charCount;
+            }
+            if (wordState != WORD) {
+                write(out, chars, runStart, pos - runStart);
+            }
+            buffer.position(pos);
+            buffer.compact();
+            if (eof) {
+                break;
+            }
+        }
+        if (wordState == WORD) {
+            writeWord(out, word, wordSequence, wordLength, breaks);
+        }
+    }
+
+    private static boolean isWordChar(int codePoint) {
+        if (Character.isLetter(codePoint)) {
+            return true;
+        }
+        int type = Character.getType(codePoint);
+        return type == Character.NON_SPACING_MARK || type == Character.COMBINING_SPACING_MARK
+                || type == Character.ENCLOSING_MARK;
+    }
+
+    private void writeWord(Appendable out, char[] word, CharSequence wordSequence, int length,
+            int[] breaks) throws IOException {
+        int count = hyphenator.hyphenationPoints(wordSequence, 0, length, breaks);
+        int start = 0;
+        for (int i = 0; i < count; i++) {
+            write(out, word, start, breaks[i] - start);
+            out.append(marker);
+            start = breaks[i];
+        }
+        write(out, word, start, length - start);
+    }
+
+    private static void write(Appendable out, char[] chars, int offset, int length)
+            throws IOException {
+        if (length == 0) {
+            return;
+        }
+        // avoid the copies Appendable.append(CharSequence, int, int) makes
+        if (out instanceof Writer) {
+            ((Writer) out).write(chars, offset, length);
+        } else if (out instanceof StringBuilder) {
+            ((StringBuilder) out).append(chars, offset, length);
+        } else {
+            out.append(CharBuffer.wrap(chars, offset, length));
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package de.mfietz.jhyphenator;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A set of counters that many threads can increment without contending on a
+ * single cache line. Each thread updates one of several padded stripes, reads
+ * sum up all stripes.
+ */
+final class StripedCounter {
+
+    private static final int STRIPES = 16;
+
+    /** Longs per cache line. */
+    private static final int LINE = 8;
+
+    private final int counters;
+    /** Longs per stripe, padded so that stripes never share a cache line. */
+    private final int stride;
+    private final AtomicLongArray cells;
+
+    StripedCounter(int counters) {
+        this.counters = counters;
+        this.stride = (counters + LINE - 1) / LINE * LINE + LINE;
+        this.cells = new AtomicLongArray(STRIPES * stride);
+    }
+
+    private int stripe() {
+        long id = Thread.currentThread().getId();
+        return ((int) (id ^ (id >>> 32)) & (STRIPES - 1)) * stride;
+    }
+
+    void increment(int counter) {
+        cells.getAndIncrement(stripe() + counter);
+    }
+
+    void add(int counter, long delta) {
+        cells.getAndAdd(stripe() + counter, delta);
+    }
+
+    long sum(int counter) {
+        if (counter >= counters) {
+            throw new IndexOutOfBoundsException("No counter " + counter);
+        }
+        long sum = 0;
+        for (int i = counter; i < cells.length(); i += stride) {
+            sum += cells.get(i);
+        }
+        return sum;
+    }
+}
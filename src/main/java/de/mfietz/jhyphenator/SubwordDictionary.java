@@ -0,0 +1,155 @@
+package de.mfietz.jhyphenator;
+
+import java.util.Collection;
+
+/**
+ * Immutable set of subwords for {@link CompoundDecomposer}, compared
+ * case-insensitively.
+ * <p>
+ * The lowercased words are stored back to back in one {@code char[]}. An
+ * open-addressing table of entry indexes, probed linearly, finds a range of
+ * any {@link CharSequence} without creating a key object, and lets the
+ * decomposer extend the hash of a candidate one character at a time.
+ */
+public final class SubwordDictionary {
+
+    /** Entry index + 1 per slot, 0 for empty slots. */
+    private final int[] slots;
+    private final int[] hashes;
+    private final int[] wordStart;
+    private final char[] words;
+    private final int size;
+
+    private SubwordDictionary(int[] slots, int[] hashes, int[] wordStart, char[] words,
+            int size) {
+        this.slots = slots;
+        this.hashes = hashes;
+        this.wordStart = wordStart;
+        this.words = words;
+        this.size = size;
+    }
+
+    /**
+     * Builds a dictionary of the given words; duplicates are stored once.
+     *
+     * @param subwords words, in any case
+     * @return the dictionary
+     */
+    public static SubwordDictionary of(Collection<? extends CharSequence> subwords) {
+        int capacity = 2;
+        while (capacity < subwords.size() * 2) {
+            capacity <<= 1;
+        }
+        int totalLength = 0;
+        for (CharSequence word : subwords) {
+            totalLength += word.length();
+        }
+        int[] slots = new int[capacity];
+        int[] hashes = new int[subwords.size()];
+        int[] wordStart = new int[subwords.size() + 1];
+        char[] words = new char[totalLength];
+        int count = 0;
+        int wordEnd = 0;
+        for (CharSequence word : subwords) {
+            int hash = 0;
+            for (int i = 0; i < word.length(); i++) {
+                hash = next(hash, word.charAt(i));
+            }
+            int slot = probe(slots, hashes, wordStart, words, word, 0, word.length(), hash);
+            if (slot >= 0) {
+                continue;
+            }
+            for (int i = 0; i < word.length(); i++) {
+                words[wordEnd++] = toLowerCase(word.charAt(i));
+            }
+            slots[~slot] = count + 1;
+            hashes[count] = hash;
+            wordStart[count + 1] = wordEnd;
+            count++;
+        }
+        return new SubwordDictionary(slots, hashes, wordStart, words, count);
+    }
+
+    /**
+     * @return number of distinct words
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param word word to look up
+     * @return whether the dictionary contains {@code word}, ignoring case
+     */
+    public boolean contains(CharSequence word) {
+        return contains(word, 0, word.length());
+    }
+
+    /**
+     * @param text text containing the word
+     * @param start index of the first character of the word
+     * @param end index after the last character of the word
+     * @return whether the dictionary contains {@code text[start, end)},
+     *         ignoring case
+     */
+    public boolean contains(CharSequence text, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = next(hash, text.charAt(i));
+        }
+        return contains(text, start, end, hash);
+    }
+
+    /**
+     * Looks up {@code text[start, end)} whose hash, folded by
+     * {@link #next(int, char)} from 0, is already known.
+     */
+    boolean contains(CharSequence text, int start, int end, int hash) {
+        return probe(slots, hashes, wordStart, words, text, start, end, hash) >= 0;
+    }
+
+    /**
+     * Extends the hash of a word by one character.
+     */
+    static int next(int hash, char c) {
+        return 31 * hash + toLowerCase(c);
+    }
+
+    private static char toLowerCase(char c) {
+        if (c < 0x80) {
+            return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+        }
+        return Character.toLowerCase(c);
+    }
+
+    /**
+     * Returns the slot holding the word, or the complement of the empty slot
+     * where it would be inserted.
+     */
+    private static int probe(int[] slots, int[] hashes, int[] wordStart, char[] words,
+            CharSequence text, int start, int end, int hash) {
+        int mask = slots.length - 1;
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        for (; slots[slot] != 0; slot = (slot + 1) & mask) {
+            int entry = slots[slot] - 1;
+            if (hashes[entry] == hash && equalsIgnoreCase(words, wordStart[entry],
+                    wordStart[entry + 1], text, start, end)) {
+                return slot;
+            }
+        }
+        return ~slot;
+    }
+
+    private static boolean equalsIgnoreCase(char[] words, int from, int to, CharSequence text,
+            int start, int end) {
+        if (to - from != end - start) {
+            return false;
+        }
+        for (int i = from, j = start; i < to; i++, j++) {
+            if (words[i] != toLowerCase(text.charAt(j))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,79 @@
+package de.mfietz.jhyphenator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Creates hyphenators from TeX hyphenation patterns, e.g. the
+ * {@code hyph-*.tex} or {@code hyph-*.pat.txt} files of hyph-utf8, so that
+ * tuned or additional languages can be used without the built-in
+ * {@link HyphenationPattern}s. None of the built-in languages is loaded.
+ * <p>
+ * The patterns are parsed in a single streaming pass and added to the trie as
+ * they are read. Words in {@code \hyphenation{...}} blocks become exceptions,
+ * see {@link Hyphenator#withExceptions(java.util.Collection)}. The returned
+ * hyphenators are not cached.
+ */
+public final class TexPatternLoader {
+
+    private TexPatternLoader() {
+    }
+
+    /**
+     * @param in TeX pattern source, not closed
+     * @param leftMin minimum number of characters before the first hyphen
+     * @param rightMin minimum number of characters after the last hyphen
+     * @return hyphenator using the patterns
+     * @throws IOException if reading fails
+     */
+    public static Hyphenator load(Reader in, int leftMin, int rightMin) throws IOException {
+        long startTime = System.nanoTime();
+        final TrieBuilder builder = new TrieBuilder();
+        final List<String> exceptions = new ArrayList<String>();
+        new TexPatternParser(new TexPatternParser.Handler() {
+            @Override
+            public void pattern(CharSequence chars, int start, int end) {
+                builder.add(chars, start, end);
+            }
+
+            @Override
+            public void exception(CharSequence chars, int start, int end) {
+                exceptions.add(chars.subSequence(start, end).toString());
+            }
+        }).parse(in);
+        Hyphenator hyphenator = Hyphenator.create(builder.build(), leftMin, rightMin,
+                System.nanoTime() - startTime);
+        return exceptions.isEmpty() ? hyphenator : hyphenator.withExceptions(exceptions);
+    }
+
+    /**
+     * @param in UTF-8 encoded TeX pattern source, not closed
+     * @param leftMin minimum number of characters before the first hyphen
+     * @param rightMin minimum number of characters after the last hyphen
+     * @return hyphenator using the patterns
+     * @throws IOException if reading fails
+     */
+    public static Hyphenator load(InputStream in, int leftMin, int rightMin) throws IOException {
+        return load(new InputStreamReader(in, StandardCharsets.UTF_8), leftMin, rightMin);
+    }
+
+    /**
+     * @param file UTF-8 encoded TeX pattern file
+     * @param leftMin minimum number of characters before the first hyphen
+     * @param rightMin minimum number of characters after the last hyphen
+     * @return hyphenator using the patterns
+     * @throws IOException if reading fails
+     */
+    public static Hyphenator load(Path file, int leftMin, int rightMin) throws IOException {
+        try (Reader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return load(in, leftMin, rightMin);
+        }
+    }
+}
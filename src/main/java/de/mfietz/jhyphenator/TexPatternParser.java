@@ -0,0 +1,173 @@
+package de.mfietz.jhyphenator;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+
+/**
+ * Streaming parser for TeX hyphenation files.
+ * <p>
+ * Understands the {@code \patterns{...}} and {@code \hyphenation{...}} blocks
+ * of TeX pattern files as well as the plain pattern lists of hyph-utf8
+ * ({@code hyph-*.pat.txt}), which hold one pattern per line and no commands.
+ * Bare words outside of a block are therefore taken as patterns, but only
+ * until the first control sequence; the groups of all other commands, such as
+ * {@code \message{...}}, are skipped. Comments start with {@code %}. The TeX
+ * word boundary {@code .} is translated to the {@code _} used by this
+ * library. The legacy {@code ^^xx} notation is not supported.
+ * <p>
+ * Tokens are collected in a reusable buffer and handed to the {@link Handler}
+ * as character ranges, no strings are created.
+ */
+final class TexPatternParser {
+
+    interface Handler {
+
+        void pattern(CharSequence chars, int start, int end);
+
+        void exception(CharSequence chars, int start, int end);
+    }
+
+    private static final int TOP = 0;
+    private static final int PATTERNS = 1;
+    private static final int EXCEPTIONS = 2;
+    private static final int SKIP = 3;
+    private static final int NONE = -1;
+
+    private final Handler handler;
+
+    private char[] token = new char[64];
+    private CharBuffer tokenSequence = CharBuffer.wrap(token);
+    private int tokenLength;
+
+    private int mode = TOP;
+    /** Mode entered by the next {@code '{'}, set by the preceding command. */
+    private int pending = NONE;
+    private int depth;
+    private boolean comment;
+    private boolean command;
+    private boolean seenCommand;
+
+    TexPatternParser(Handler handler) {
+        this.handler = handler;
+    }
+
+    void parse(Reader in) throws IOException {
+        char[] buffer = new char[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            for (int i = 0; i < read; i++) {
+                accept(buffer[i]);
+            }
+        }
+        if (command) {
+            endCommand();
+        }
+        flush();
+    }
+
+    private void accept(char c) {
+        if (comment) {
+            if (c == '\n' || c == '\r') {
+                comment = false;
+            }
+            return;
+        }
+        if (command) {
+            if (Character.isLetter(c)) {
+                append(c);
+                return;
+            }
+            endCommand();
+        }
+        if (mode == SKIP) {
+            if (c == '%') {
+                comment = true;
+            } else if (c == '{') {
+                depth++;
+            } else if (c == '}' && --depth == 0) {
+                mode = TOP;
+            }
+            return;
+        }
+        switch (c) {
+        case '%':
+            flush();
+            comment = true;
+            break;
+        case '\\':
+            flush();
+            command = true;
+            seenCommand = true;
+            break;
+        case '{':
+            flush();
+            if (pending == PATTERNS || pending == EXCEPTIONS) {
+                mode = pending;
+            } else {
+                mode = SKIP;
+                depth = 1;
+            }
+            pending = NONE;
+            break;
+        case '}':
+            flush();
+            mode = TOP;
+            pending = NONE;
+            break;
+        default:
+            if (Character.isWhitespace(c)) {
+                flush();
+            } else {
+                pending = NONE;
+                append(mode != EXCEPTIONS && c == '.' ? '_' : c);
+            }
+        }
+    }
+
+    private void endCommand() {
+        command = false;
+        if (matches("patterns")) {
+            pending = PATTERNS;
+        } else if (matches("hyphenation")) {
+            pending = EXCEPTIONS;
+        } else {
+            pending = SKIP;
+        }
+        tokenLength = 0;
+    }
+
+    private boolean matches(String name) {
+        if (tokenLength != name.length()) {
+            return false;
+        }
+        for (int i = 0; i < tokenLength; i++) {
+            if (token[i] != name.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void append(char c) {
+        if (tokenLength == token.length) {
+            char[] grown = new char[tokenLength * 2];
+            System.arraycopy(token, 0, grown, 0, tokenLength);
+            token = grown;
+            tokenSequence = CharBuffer.wrap(token);
+        }
+        token[tokenLength++] = c;
+    }
+
+    private void flush() {
+        if (tokenLength == 0) {
+            return;
+        }
+        if (mode == PATTERNS || (mode == TOP && !seenCommand)) {
+            handler.pattern(tokenSequence, 0, tokenLength);
+        } else if (mode == EXCEPTIONS) {
+            handler.exception(tokenSequence, 0, tokenLength);
+        }
+        tokenLength = 0;
+    }
+}
@@ -0,0 +1,70 @@
+package de.mfietz.jhyphenator;
+
+import java.util.Arrays;
+
+/**
+ * Builds a {@link PatternTrie} from Liang patterns added one at a time, such
+ * as {@code "_ab1c"} or {@code "2bc"}. Letters and values are read straight
+ * from the given character range, without intermediate strings.
+ */
+final class TrieBuilder {
+
+    private final TrieNode root = new TrieNode();
+    private int[] values = new int[16];
+
+    /**
+     * Adds the pattern {@code pattern[start, end)}. A pattern added twice
+     * keeps the values of the last one.
+     */
+    void add(CharSequence pattern, int start, int end) {
+        TrieNode node = root;
+        int count = 0;
+        int number = -1;
+        for (int i = start; i < end; i++) {
+            char c = pattern.charAt(i);
+            if (Character.isDigit(c)) {
+                number = (number < 0 ? 0 : number * 10) + Character.digit(c, 10);
+                continue;
+            }
+            int codePoint = codePointAt(pattern, i, end);
+            // skip the low surrogate of a supplementary character
+            i += Character.charCount(codePoint) - 1;
+            TrieNode child = node.codePoint.get(codePoint);
+            if (child == null) {
+                child = new TrieNode();
+                node.codePoint.put(codePoint, child);
+            }
+            node = child;
+            count = append(count, number < 0 ? 0 : number);
+            number = -1;
+        }
+        if (number >= 0) {
+            // last number in the pattern
+            count = append(count, number);
+        }
+        node.points = Arrays.copyOf(values, count);
+    }
+
+    private int append(int count, int value) {
+        if (count == values.length) {
+            values = Arrays.copyOf(values, count * 2);
+        }
+        values[count] = value;
+        return count + 1;
+    }
+
+    private static int codePointAt(CharSequence text, int index, int end) {
+        char high = text.charAt(index);
+        if (Character.isHighSurrogate(high) && index + 1 < end) {
+            char low = text.charAt(index + 1);
+            if (Character.isLowSurrogate(low)) {
+                return Character.toCodePoint(high, low);
+            }
+        }
+        return high;
+    }
+
+    PatternTrie build() {
+        return PatternTrie.flatten(root);
+    }
+}
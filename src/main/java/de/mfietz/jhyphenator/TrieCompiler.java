@@ -0,0 +1,70 @@
+package de.mfietz.jhyphenator;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Build-time tool that compiles every {@link HyphenationPattern} into the
+ * binary trie format read by {@link Hyphenator#load(java.nio.ByteBuffer)}.
+ * The files are written to the resource directory from which
+ * {@link Hyphenator#getInstance(HyphenationPattern)} picks them up. Each file
+ * records the checksum of its pattern resource. A file whose checksum still
+ * matches is kept, any other is compiled again, so the runtime can use the
+ * files without reading the patterns.
+ * <p>
+ * Usage: {@code TrieCompiler <output directory>}
+ */
+public final class TrieCompiler {
+
+    private TrieCompiler() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: TrieCompiler <output directory>");
+            System.exit(1);
+        }
+        String packageDir = Hyphenator.class.getPackage().getName().replace('.', File.separatorChar);
+        File root = new File(args[0], packageDir);
+        for (HyphenationPattern pattern : HyphenationPattern.values()) {
+            File file = new File(root, Hyphenator.compiledResourceName(pattern));
+            if (!file.getParentFile().isDirectory() && !file.getParentFile().mkdirs()) {
+                throw new IOException("Cannot create " + file.getParentFile());
+            }
+            if (isCurrent(file, pattern)) {
+                continue;
+            }
+            Hyphenator hyphenator = Hyphenator.compile(pattern);
+            OutputStream out = new FileOutputStream(file);
+            try {
+                hyphenator.writeCompiled(out, pattern.sourceChecksum());
+            } finally {
+                out.close();
+            }
+        }
+    }
+
+    private static boolean isCurrent(File file, HyphenationPattern pattern) throws IOException {
+        if (!file.isFile()) {
+            return false;
+        }
+        byte[] header = new byte[64];
+        InputStream in = new FileInputStream(file);
+        try {
+            int length = 0;
+            int read;
+            while (length < header.length
+                    && (read = in.read(header, length, header.length - length)) != -1) {
+                length += read;
+            }
+            return Hyphenator.isCurrent(ByteBuffer.wrap(header, 0, length), pattern);
+        } finally {
+            in.close();
+        }
+    }
+}
@@ -6,7 +6,8 @@ public class TrieNode implements Serializable {
 
     private static final long serialVersionUID = 1L;
     
-    IntTrieNodeArrayMap codePoint = new IntTrieNodeArrayMap();
+    // most nodes are leaves, children arrays grow on the first put
+    IntTrieNodeArrayMap codePoint = new IntTrieNodeArrayMap(0);
     int[] points;
     
     public TrieNode() {
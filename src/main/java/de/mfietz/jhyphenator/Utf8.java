@@ -0,0 +1,89 @@
+package de.mfietz.jhyphenator;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Minimal UTF-8 coding of single code points, used to build and to walk
+ * byte-keyed tries without going through a {@link java.nio.charset.Charset}.
+ */
+final class Utf8 {
+
+    /** Never part of well-formed UTF-8, so no pattern contains it. */
+    static final int INVALID_BYTE = 0xFF;
+
+    private Utf8() {
+    }
+
+    /**
+     * Returns the number of bytes of a sequence starting with {@code lead},
+     * or 0 if {@code lead} cannot start one.
+     */
+    static int length(int lead) {
+        if (lead < 0x80) {
+            return 1;
+        }
+        if (lead < 0xC2) {
+            return 0;
+        }
+        if (lead < 0xE0) {
+            return 2;
+        }
+        if (lead < 0xF0) {
+            return 3;
+        }
+        return lead < 0xF5 ? 4 : 0;
+    }
+
+    /**
+     * Decodes the sequence of {@code length} bytes at {@code index} of
+     * {@code buffer}, which must lie before {@code end}. Returns -1 for
+     * truncated, overlong or surrogate sequences.
+     */
+    static int decode(ByteBuffer buffer, int index, int length, int end) {
+        if (length == 0 || index + length > end) {
+            return -1;
+        }
+        int codePoint = buffer.get(index) & (0xFF >>> (length + 1));
+        for (int i = 1; i < length; i++) {
+            int b = buffer.get(index + i);
+            if ((b & 0xC0) != 0x80) {
+                return -1;
+            }
+            codePoint = codePoint << 6 | (b & 0x3F);
+        }
+        if (length == 3 && (codePoint < 0x800 || Character.isSurrogate((char) codePoint))
+                || length == 4 && (codePoint < 0x10000 || codePoint > Character.MAX_CODE_POINT)) {
+            return -1;
+        }
+        return codePoint;
+    }
+
+    /**
+     * Writes the bytes of {@code codePoint} to {@code out} from
+     * {@code offset} on, one byte per element.
+     *
+     * @return index after the last byte
+     */
+    static int encode(int codePoint, int[] out, int offset) {
+        if (codePoint < 0x80) {
+            out[offset] = codePoint;
+            return offset + 1;
+        }
+        if (codePoint < 0x800) {
+            out[offset] = 0xC0 | codePoint >>> 6;
+            out[offset + 1] = 0x80 | codePoint & 0x3F;
+            return offset + 2;
+        }
+        if (codePoint < 0x10000) {
+            out[offset] = 0xE0 | codePoint >>> 12;
+            out[offset + 1] = 0x80 | codePoint >>> 6 & 0x3F;
+            out[offset + 2] = 0x80 | codePoint & 0x3F;
+            return offset + 3;
+        }
+        out[offset] = 0xF0 | codePoint >>> 18;
+        out[offset + 1] = 0x80 | codePoint >>> 12 & 0x3F;
+        out[offset + 2] = 0x80 | codePoint >>> 6 & 0x3F;
+        out[offset + 3] = 0x80 | codePoint & 0x3F;
+        return offset + 4;
+    }
+}
@@ -0,0 +1,17 @@
+package de.mfietz.jhyphenator;
+
+/**
+ * Measures rendered text for {@link ParagraphBreaker}, e.g. with the metrics
+ * of a font. Widths may use any unit as long as the line widths passed to
+ * {@link Paragraph#layout(float)} use the same.
+ */
+public interface WidthMeasurer {
+
+    /**
+     * @param text text containing the run
+     * @param start index of the first character of the run
+     * @param end index after the last character of the run
+     * @return width of {@code text[start, end)}
+     */
+    float width(CharSequence text, int start, int end);
+}
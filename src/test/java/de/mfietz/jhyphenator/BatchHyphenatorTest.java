@@ -0,0 +1,37 @@
+package de.mfietz.jhyphenator;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+public class BatchHyphenatorTest {
+
+    @Test
+    public void testMatchesSingleWordHyphenation() {
+        Hyphenator hyphenator = Hyphenator.getInstance(HyphenationPattern.DE);
+        String[] vocabulary = { "Kochschule", "Seewetterdienst", "Hochverrat", "", "Musterbeispiel",
+                "Bundespräsident", "Schmetterling", "Christian", "ab" };
+        String[] words = new String[5000];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = vocabulary[i % vocabulary.length];
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            HyphenationBatch batch = new BatchHyphenator(hyphenator, pool)
+                    .hyphenate(Arrays.asList(words));
+            assertEquals(words.length, batch.size());
+            int[] expected = new int[32];
+            for (int i = 0; i < words.length; i++) {
+                int count = hyphenator.hyphenationPoints(words[i], 0, words[i].length(), expected);
+                assertArrayEquals(Arrays.copyOf(expected, count), batch.toArray(i));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
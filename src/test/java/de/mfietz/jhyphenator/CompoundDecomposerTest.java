@@ -0,0 +1,81 @@
+package de.mfietz.jhyphenator;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+public class CompoundDecomposerTest {
+
+    private static final SubwordDictionary DICTIONARY = SubwordDictionary.of(Arrays.asList(
+            "Donau", "dampf", "Schiff", "fahrt", "kapitän", "koch", "schule", "Bundes"));
+
+    private static final Hyphenator DE = Hyphenator.getInstance(HyphenationPattern.DE);
+
+    private static String[] components(CompoundDecomposer decomposer, String word) {
+        int[] spans = new int[32];
+        int count = decomposer.decompose(word, 0, word.length(), spans);
+        String[] components = new String[count];
+        for (int i = 0; i < count; i++) {
+            components[i] = word.substring(spans[2 * i], spans[2 * i + 1]);
+        }
+        return components;
+    }
+
+    @Test
+    public void testDecompose() {
+        CompoundDecomposer decomposer = new CompoundDecomposer(DE, DICTIONARY);
+        assertArrayEquals(new String[] { "Donau", "dampf", "schiff", "fahrt", "kapitän" },
+                components(decomposer, "Donaudampfschifffahrtskapitän"));
+        assertArrayEquals(new String[] { "Koch", "schule" }, components(decomposer, "Kochschule"));
+        assertEquals(0, components(decomposer, "Schmetterling").length);
+        assertEquals(0, components(decomposer, "Haus").length);
+    }
+
+    @Test
+    public void testRange() {
+        CompoundDecomposer decomposer = new CompoundDecomposer(DE, DICTIONARY);
+        int[] spans = new int[8];
+        assertEquals(2, decomposer.decompose(new StringBuilder("die Kochschule"), 4, 14, spans));
+        assertArrayEquals(new int[] { 0, 4, 4, 10 }, Arrays.copyOf(spans, 4));
+        // components that do not fit are dropped
+        assertEquals(1, decomposer.decompose("Kochschule", 0, 10, new int[3]));
+    }
+
+    @Test
+    public void testLongestMatch() {
+        SubwordDictionary dictionary = SubwordDictionary.of(Arrays.asList(
+                "koch", "kochschu", "schule"));
+        CompoundDecomposer decomposer = new CompoundDecomposer(DE, dictionary, 5, 2, 15, true);
+        assertArrayEquals(new String[] { "Kochschu", "schule" },
+                components(decomposer, "Kochschule"));
+    }
+
+    @Test
+    public void testBatch() {
+        CompoundDecomposer decomposer = new CompoundDecomposer(DE, DICTIONARY);
+        Decompositions batch = decomposer.decompose(Arrays.asList(
+                "Kochschule", "Haus", "Donaudampfschifffahrtskapitän"));
+        assertEquals(3, batch.size());
+        assertEquals(2, batch.count(0));
+        assertEquals(4, batch.start(0, 1));
+        assertEquals(10, batch.end(0, 1));
+        assertEquals(0, batch.count(1));
+        assertEquals(5, batch.count(2));
+        assertEquals(22, batch.start(2, 4));
+        assertEquals(7, batch.totalCount());
+    }
+
+    @Test
+    public void testDictionary() {
+        assertEquals(8, DICTIONARY.size());
+        assertTrue(DICTIONARY.contains("DONAU"));
+        assertFalse(DICTIONARY.contains("Donaus"));
+        assertTrue(DICTIONARY.contains("die Donau", 4, 9));
+        assertEquals(1, SubwordDictionary.of(Arrays.asList("a", "A")).size());
+    }
+}
@@ -1,8 +1,31 @@
 package de.mfietz.jhyphenator;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import junitparams.JUnitParamsRunner;
 import junitparams.Parameters;
@@ -66,5 +89,348 @@ import org.junit.runner.RunWith;
       assertEquals(expected, actual);
   }
 
+    @Test
+    public void testHyphenationPointsInRange() {
+        Hyphenator h = Hyphenator.getInstance(HyphenationPattern.DE);
+        StringBuilder text = new StringBuilder("Die Kochschule am See");
+        int[] out = new int[16];
+        int count = h.hyphenationPoints(text, 4, 14, out);
+        assertEquals(2, count);
+        assertArrayEquals(new int[] { 4, 8 }, Arrays.copyOf(out, count));
+    }
+
+    @Test
+    public void testCache() {
+        Hyphenator h = Hyphenator.getInstance(HyphenationPattern.DE).withCache(16);
+        assertEquals("Schmet-ter-ling", join(h.hyphenate("Schmetterling"), "-"));
+        assertEquals("schmet-ter-ling", join(h.hyphenate("schmetterling"), "-"));
+        assertEquals("SCHMET-TER-LING", join(h.hyphenate("SCHMETTERLING"), "-"));
+        CacheStats stats = h.cacheStats();
+        assertEquals(2, stats.hitCount());
+        assertEquals(1, stats.missCount());
+        assertEquals(1, stats.size());
+    }
+
+    @Test
+    public void testExceptions() {
+        Hyphenator h = Hyphenator.getInstance(HyphenationPattern.DE)
+                .withExceptions(Arrays.asList("Schmet-terling", "kochschule"));
+        assertEquals("Schmet-terling", join(h.hyphenate("Schmetterling"), "-"));
+        assertEquals("SCHMET-TERLING", join(h.hyphenate("SCHMETTERLING"), "-"));
+        assertEquals("Kochschule", join(h.hyphenate("Kochschule"), "-"));
+        assertEquals("Hoch-ver-rat", join(h.hyphenate("Hochverrat"), "-"));
+    }
+
+    @Test
+    public void testSerialization() throws IOException, ClassNotFoundException {
+        Hyphenator h = Hyphenator.getInstance(HyphenationPattern.DE).withCache(16)
+                .withEngine(MatchingEngine.AHO_CORASICK)
+                .withExceptions(Arrays.asList("Schmet-terling"));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(bytes);
+        out.writeObject(h);
+        out.close();
+        ObjectInputStream in = new ObjectInputStream(
+                new ByteArrayInputStream(bytes.toByteArray()));
+        Hyphenator copy = (Hyphenator) in.readObject();
+        assertEquals("Schmet-terling", join(copy.hyphenate("Schmetterling"), "-"));
+        assertEquals("Hoch-ver-rat", join(copy.hyphenate("Hochverrat"), "-"));
+        assertEquals(1, copy.cacheStats().missCount());
+        assertEquals(h.stats().patternCount(), copy.stats().patternCount());
+    }
+
+    @Test
+    public void testCorruptExceptions() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        ExceptionTable.build(Arrays.asList("ta-ble")).write(out);
+        out.close();
+        byte[] table = bytes.toByteArray();
+        assertEquals(1, readExceptions(table).size());
+
+        // two slots, then one hash, then the two word starts; breaks last
+        byte[] full = table.clone();
+        ByteBuffer.wrap(full).putInt(4, 1).putInt(8, 1);
+        assertCorruptExceptions(full);
+        byte[] badSlot = table.clone();
+        ByteBuffer.wrap(badSlot).putInt(4, 2);
+        assertCorruptExceptions(badSlot);
+        byte[] badWordStart = table.clone();
+        ByteBuffer.wrap(badWordStart).putInt(28, 100);
+        assertCorruptExceptions(badWordStart);
+        byte[] badBreak = table.clone();
+        ByteBuffer.wrap(badBreak).putInt(table.length - 4, 5);
+        assertCorruptExceptions(badBreak);
+    }
+
+    private static ExceptionTable readExceptions(byte[] table) throws IOException {
+        return ExceptionTable.read(new DataInputStream(new ByteArrayInputStream(table)));
+    }
+
+    private static void assertCorruptExceptions(byte[] table) {
+        try {
+            readExceptions(table);
+            fail("Corrupt exception table read");
+        } catch (IOException expected) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testLoadCompiled() throws IOException {
+        Hyphenator h = Hyphenator.getInstance(HyphenationPattern.DE);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        h.writeCompiled(bytes);
+        byte[] compiled = bytes.toByteArray();
+        Hyphenator loaded = Hyphenator.load(ByteBuffer.wrap(compiled));
+        assertEquals("Schmet-ter-ling", join(loaded.hyphenate("Schmetterling"), "-"));
+
+        assertCorrupt(Arrays.copyOf(compiled, compiled.length / 2));
+        // header of 4 ints and the checksum, then the length-prefixed arrays
+        int firstEdgeLength = ByteBuffer.wrap(compiled).getInt(24);
+        int labels = 24 + 4 * (1 + firstEdgeLength);
+        int targets = labels + 4 * (1 + ByteBuffer.wrap(compiled).getInt(labels));
+        byte[] negativeLength = compiled.clone();
+        ByteBuffer.wrap(negativeLength).putInt(labels, -1);
+        assertCorrupt(negativeLength);
+        byte[] hugeLength = compiled.clone();
+        ByteBuffer.wrap(hugeLength).putInt(labels, Integer.MAX_VALUE);
+        assertCorrupt(hugeLength);
+        byte[] badTarget = compiled.clone();
+        ByteBuffer.wrap(badTarget).putInt(targets + 4, firstEdgeLength + 1000);
+        assertCorrupt(badTarget);
+    }
+
+    @Test
+    public void testStaleCompiledTrie() throws IOException {
+        Hyphenator h = Hyphenator.getInstance(HyphenationPattern.DE);
+        ByteArrayOutputStream current = new ByteArrayOutputStream();
+        h.writeCompiled(current, HyphenationPattern.DE.sourceChecksum());
+        ByteBuffer compiled = ByteBuffer.wrap(current.toByteArray());
+        assertTrue(Hyphenator.isCurrent(compiled, HyphenationPattern.DE));
+        assertFalse(Hyphenator.isCurrent(compiled, HyphenationPattern.EN_US));
+        ByteArrayOutputStream unknown = new ByteArrayOutputStream();
+        h.writeCompiled(unknown);
+        assertFalse(Hyphenator.isCurrent(ByteBuffer.wrap(unknown.toByteArray()),
+                HyphenationPattern.DE));
+    }
+
+    private static void assertCorrupt(byte[] compiled) {
+        try {
+            Hyphenator.load(ByteBuffer.wrap(compiled));
+            fail("Corrupt trie loaded");
+        } catch (IllegalArgumentException expected) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testRanges() {
+        Hyphenator h = Hyphenator.getInstance(HyphenationPattern.DE);
+        String text = "Der Schmetterling fliegt";
+        assertEquals("Schmet-ter-ling", join(h.hyphenate(new StringBuilder(text), 4, 17), "-"));
+        assertEquals("Schmet-ter-ling", join(h.hyphenate(text.toCharArray(), 4, 13), "-"));
+        int[] points = new int[12];
+        assertEquals(2, h.hyphenationPoints(text.toCharArray(), 4, 13, points));
+        assertEquals(6, points[0]);
+        assertEquals(9, points[1]);
+    }
+
+    @Test
+    public void testLocaleIndependent() {
+        Hyphenator h = Hyphenator.getInstance(HyphenationPattern.EN_US);
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            Locale.setDefault(new Locale("tr", "TR"));
+            assertEquals("IN-TER-NA-TIONAL", join(h.hyphenate("INTERNATIONAL"), "-"));
+            assertEquals("in-ter-na-tional", join(h.hyphenate("international"), "-"));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void testStats() {
+        // not the shared instance, whose metrics its derived instances record
+        Hyphenator h = Hyphenator.compile(HyphenationPattern.DE).withCache(16);
+        h.setMetricsEnabled(true);
+        h.hyphenate("Kochschule");
+        h.hyphenate("Hochverrat");
+        HyphenatorStats stats = h.stats();
+        assertEquals(2, stats.callCount());
+        assertEquals(20, stats.characterCount());
+        long calls = 0;
+        for (long bucket : stats.latencyHistogram()) {
+            calls += bucket;
+        }
+        assertEquals(2, calls);
+        assertTrue(stats.patternCount() > 0);
+        assertTrue(stats.nodeCount() > 0);
+        assertTrue(stats.maxDepth() > 0);
+        assertTrue(Hyphenator.loadedStats().containsKey(HyphenationPattern.DE));
+
+        // the automaton and the UTF-8 trie count once they are built
+        long bytes = stats.estimatedBytes();
+        h.withEngine(MatchingEngine.AHO_CORASICK);
+        long withAutomaton = h.stats().estimatedBytes();
+        assertTrue(withAutomaton > bytes);
+        h.hyphenationPoints(ByteBuffer.wrap(new byte[] { 'a', 'b' }), 0, 2, new int[1]);
+        assertTrue(h.stats().estimatedBytes() > withAutomaton);
+    }
+
+    @Test
+    public void testMetricsShared() {
+        Hyphenator base = Hyphenator.compile(HyphenationPattern.DE);
+        base.setMetricsEnabled(true);
+        Hyphenator cached = base.withCache(16);
+        cached.hyphenate("Kochschule");
+        cached.hyphenate("Kochschule");
+        cached.withEngine(MatchingEngine.AHO_CORASICK).hyphenate("Hochverrat");
+        assertEquals(3, base.stats().callCount());
+        assertEquals(30, base.stats().characterCount());
+        assertEquals(3, cached.stats().callCount());
+        cached.setMetricsEnabled(false);
+        assertFalse(base.isMetricsEnabled());
+    }
+
+    @Test
+    public void testEnginesAgree() throws IOException {
+        BufferedReader in = new BufferedReader(new InputStreamReader(
+                HyphenatorTest.class.getResourceAsStream("words.txt"), "UTF-8"));
+        try {
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (line.length() == 0 || line.charAt(0) == '#') {
+                    continue;
+                }
+                int space = line.indexOf(' ');
+                String word = line.substring(space + 1);
+                Hyphenator h = Hyphenator.getInstance(HyphenationPattern.lookup(line.substring(0, space)));
+                List<String> expected = h.hyphenate(word);
+                for (MatchingEngine engine : MatchingEngine.values()) {
+                    assertEquals(engine + " " + word, expected, h.withEngine(engine).hyphenate(word));
+                }
+                Hyphenator lazy = Hyphenator.getLazyInstance(HyphenationPattern.lookup(
+                        line.substring(0, space)));
+                assertEquals("lazy " + word, expected, lazy.hyphenate(word));
+            }
+        } finally {
+            in.close();
+        }
+    }
+
+    @Test
+    public void testUtf8AgreesWithChars() throws IOException {
+        BufferedReader in = new BufferedReader(new InputStreamReader(
+                HyphenatorTest.class.getResourceAsStream("words.txt"), "UTF-8"));
+        try {
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (line.length() == 0 || line.charAt(0) == '#') {
+                    continue;
+                }
+                int space = line.indexOf(' ');
+                String word = line.substring(space + 1);
+                Hyphenator h = Hyphenator.getInstance(HyphenationPattern.lookup(line.substring(0, space)));
+                assertUtf8Points(h, word);
+                assertUtf8Points(h, word.toUpperCase(Locale.ROOT));
+            }
+        } finally {
+            in.close();
+        }
+    }
+
+    @Test
+    public void testUtf8MappedFile() throws IOException {
+        File file = File.createTempFile("words", ".txt");
+        try {
+            OutputStream out = new FileOutputStream(file);
+            try {
+                out.write("Der Bundespräsident fliegt".getBytes("UTF-8"));
+            } finally {
+                out.close();
+            }
+            RandomAccessFile raf = new RandomAccessFile(file, "r");
+            try {
+                MappedByteBuffer buffer = raf.getChannel().map(FileChannel.MapMode.READ_ONLY, 0,
+                        file.length());
+                Hyphenator h = Hyphenator.getInstance(HyphenationPattern.DE);
+                int[] points = new int[16];
+                int count = h.hyphenationPoints(buffer, 4, 20, points);
+                // Bun-des-prä-si-dent, "ä" takes two bytes
+                assertArrayEquals(new int[] {3, 6, 10, 12}, Arrays.copyOf(points, count));
+                assertEquals(0, buffer.position());
+            } finally {
+                raf.close();
+            }
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void testUtf8Malformed() {
+        Hyphenator h = Hyphenator.getInstance(HyphenationPattern.DE);
+        byte[] bytes = {'K', 'o', 'c', 'h', (byte) 0xC3, 's', 'c', 'h', 'u', 'l', 'e'};
+        int[] points = new int[16];
+        int count = h.hyphenationPoints(ByteBuffer.wrap(bytes), 0, bytes.length, points);
+        assertEquals(h.hyphenationPoints("Koch\uFFFDschule", 0, 11, new int[16]), count);
+    }
 
+    private static void assertUtf8Points(Hyphenator h, String word) throws IOException {
+        int[] expected = new int[word.length()];
+        int count = h.hyphenationPoints(word, 0, word.length(), expected);
+        for (int i = 0; i < count; i++) {
+            expected[i] = word.substring(0, expected[i]).getBytes("UTF-8").length;
+        }
+        // surround the word to check that offsets are relative to start
+        byte[] bytes = ("  " + word + " ").getBytes("UTF-8");
+        int[] actual = new int[bytes.length];
+        int actualCount = h.hyphenationPoints(ByteBuffer.wrap(bytes), 2, bytes.length - 1, actual);
+        assertArrayEquals(word, Arrays.copyOf(expected, count), Arrays.copyOf(actual, actualCount));
+    }
+
+    @Test
+    public void testLazyConcurrentMaterialization() throws InterruptedException {
+        final LazyPatternTrie lazy = new LazyPatternTrie(HyphenationPattern.DE.patterns);
+        final PatternTrie eager = lazy.fullTrie();
+        final String[] words = { "Kochschule", "Seewetterdienst", "Hochverrat", "Musterbeispiel",
+                "Bundespräsident", "Schmetterling", "Christian", "Quarzuhr", "Yacht", "jäh" };
+        final AtomicInteger mismatches = new AtomicInteger();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            final int offset = t;
+            threads[t] = new Thread() {
+                @Override
+                public void run() {
+                    long[] expected = new long[PackedPoints.words(32)];
+                    long[] actual = new long[PackedPoints.words(32)];
+                    for (int i = 0; i < 200; i++) {
+                        String word = words[(i + offset) % words.length];
+                        int[] codePoints = new int[word.length() + 2];
+                        codePoints[0] = '_';
+                        for (int k = 0; k < word.length(); k++) {
+                            codePoints[k + 1] = Character.toLowerCase(word.charAt(k));
+                        }
+                        codePoints[word.length() + 1] = '_';
+                        Arrays.fill(expected, 0);
+                        Arrays.fill(actual, 0);
+                        lazy.match(codePoints, codePoints.length, actual);
+                        eager.match(codePoints, codePoints.length, expected);
+                        if (!Arrays.equals(expected, actual)) {
+                            mismatches.incrementAndGet();
+                        }
+                    }
+                }
+            };
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(0, mismatches.get());
+        assertTrue(lazy.materializedCount() < lazy.groupCount());
+    }
 }
@@ -0,0 +1,56 @@
+package de.mfietz.jhyphenator;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+public class LanguageRouterTest {
+
+    @Test
+    public void testTags() {
+        LanguageRouter router = new LanguageRouter();
+        Hyphenator de = Hyphenator.getInstance(HyphenationPattern.DE);
+        assertSame(de, router.forTag("de"));
+        assertSame(de, router.forTag("DE-ch-1996"));
+        assertSame(Hyphenator.getInstance(HyphenationPattern.EN_GB), router.forTag("en-GB"));
+        assertSame(Hyphenator.getInstance(HyphenationPattern.EN_US), router.forTag("en"));
+        assertSame(Hyphenator.getInstance(HyphenationPattern.NO), router.forTag("nb-NO"));
+        assertNull(router.forTag("xx-YY"));
+        assertNull(router.forTag("xx-YY"));
+        assertNull(HyphenationPattern.lookup("xx"));
+        assertSame(HyphenationPattern.EN_US, HyphenationPattern.lookup("en-US"));
+    }
+
+    @Test
+    public void testCustomHyphenator() {
+        Hyphenator custom = Hyphenator.getInstance(HyphenationPattern.DE).withCache(16);
+        LanguageRouter router = new LanguageRouter(Collections.singletonMap("de-AT", custom));
+        assertSame(custom, router.forTag("de-at"));
+        assertSame(Hyphenator.getInstance(HyphenationPattern.DE), router.forTag("de-DE"));
+    }
+
+    @Test
+    public void testBatch() {
+        String[] words = { "Schmetterling", "hyphenation", "Hochverrat", "unknown", "word", "" };
+        String[] tags = { "de", "en-GB", "de-DE", "xx", null, "de" };
+        LanguageRouter router = new LanguageRouter();
+        HyphenationBatch batch = router.hyphenate(Arrays.asList(words), Arrays.asList(tags));
+        assertEquals(words.length, batch.size());
+        int[] expected = new int[16];
+        for (int i = 0; i < 3; i++) {
+            int count = router.forTag(tags[i]).hyphenationPoints(words[i], 0, words[i].length(),
+                    expected);
+            assertArrayEquals(Arrays.copyOf(expected, count), batch.toArray(i));
+        }
+        assertArrayEquals(new int[] { 6, 9 }, batch.toArray(0));
+        assertArrayEquals(new int[0], batch.toArray(3));
+        assertArrayEquals(new int[0], batch.toArray(4));
+        assertArrayEquals(new int[0], batch.toArray(5));
+    }
+}
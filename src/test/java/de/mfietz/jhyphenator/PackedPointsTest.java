@@ -0,0 +1,74 @@
+package de.mfietz.jhyphenator;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class PackedPointsTest {
+
+    @Test
+    public void testMergeMatchesScalarMaximum() {
+        assertMergeMatchesScalarMaximum(new PackedPoints.Merge() {
+            @Override
+            public void merge(long[] points, int start, long[] packed, int ref) {
+                PackedPoints.mergeSwar(points, start, packed, ref);
+            }
+        });
+        // the Vector API merge, when the JDK provides it
+        if (PackedPoints.VECTOR != null) {
+            assertMergeMatchesScalarMaximum(PackedPoints.VECTOR);
+        }
+    }
+
+    private static void assertMergeMatchesScalarMaximum(PackedPoints.Merge merge) {
+        Random random = new Random(7);
+        for (int round = 0; round < 1000; round++) {
+            int length = 1 + random.nextInt(40);
+            int start = random.nextInt(64 - length);
+            int[] pool = new int[1 + length];
+            pool[0] = length;
+            for (int k = 0; k < length; k++) {
+                pool[1 + k] = random.nextInt(PackedPoints.MAX_VALUE + 1);
+            }
+            int[] refs = new int[1];
+            long[] packed = PackedPoints.pack(new int[] { 0 }, pool, refs);
+
+            int[] expected = new int[64];
+            long[] actual = new long[PackedPoints.words(64)];
+            for (int i = 0; i < expected.length; i++) {
+                expected[i] = random.nextInt(PackedPoints.MAX_VALUE + 1);
+                actual[i >>> 3] |= (long) expected[i] << ((i & 7) << 3);
+            }
+            for (int k = 0; k < length; k++) {
+                expected[start + k] = Math.max(expected[start + k], pool[1 + k]);
+            }
+            merge.merge(actual, start, packed, refs[0]);
+            for (int i = 0; i < expected.length; i++) {
+                assertEquals("position " + i, expected[i], PackedPoints.get(actual, i));
+            }
+        }
+    }
+
+    @Test
+    public void testUnpack() {
+        int[] pool = new int[1 + PackedPoints.MAX_LENGTH];
+        pool[0] = PackedPoints.MAX_LENGTH;
+        for (int k = 1; k < pool.length; k++) {
+            pool[k] = k % 10;
+        }
+        int[] refs = new int[1];
+        long[] packed = PackedPoints.pack(new int[] { 0 }, pool, refs);
+        assertEquals(PackedPoints.MAX_LENGTH, PackedPoints.length(refs[0]));
+        assertArrayEquals(Arrays.copyOfRange(pool, 1, pool.length),
+                PackedPoints.unpack(packed, refs[0]));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testValueOutOfRange() {
+        PackedPoints.pack(new int[] { 0 }, new int[] { 1, PackedPoints.MAX_VALUE + 1 }, new int[1]);
+    }
+}
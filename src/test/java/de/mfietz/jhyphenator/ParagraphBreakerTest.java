@@ -0,0 +1,102 @@
+package de.mfietz.jhyphenator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class ParagraphBreakerTest {
+
+    private static final String TEXT = "Der Schmetterling fliegt über die Kochschule, während der "
+            + "Donaudampfschifffahrtskapitän im Bundespräsidialamt eine Rede hält.";
+
+    /** One unit per char, like a monospaced font. */
+    private static final WidthMeasurer MONOSPACE = new WidthMeasurer() {
+        @Override
+        public float width(CharSequence text, int start, int end) {
+            return end - start;
+        }
+    };
+
+    private static ParagraphBreaker breaker() {
+        return new ParagraphBreaker(Hyphenator.getInstance(HyphenationPattern.DE), MONOSPACE);
+    }
+
+    private static String join(LineBreaks lines) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < lines.lineCount(); i++) {
+            String line = lines.line(i);
+            if (lines.isHyphenated(i)) {
+                text.append(line, 0, line.length() - 1);
+            } else {
+                text.append(line).append(lines.end(i) < TEXT.length() ? " " : "");
+            }
+        }
+        return text.toString();
+    }
+
+    @Test
+    public void testLinesFit() {
+        Paragraph paragraph = breaker().prepare(TEXT);
+        LineBreaks lines = paragraph.layout(30);
+        assertEquals(5, lines.lineCount());
+        assertEquals("Der Schmetterling fliegt über", lines.line(0));
+        assertEquals("die Kochschule, während der Do-", lines.line(1));
+        for (int i = 0; i < lines.lineCount(); i++) {
+            assertTrue(lines.line(i), lines.ratio(i) >= -1);
+        }
+        assertEquals(0, lines.ratio(lines.lineCount() - 1), 0);
+        assertEquals(TEXT, join(lines));
+    }
+
+    @Test
+    public void testRelayout() {
+        Paragraph paragraph = breaker().prepare(TEXT);
+        int previousCount = Integer.MAX_VALUE;
+        for (int width = 3; width <= 80; width++) {
+            LineBreaks lines = paragraph.layout(width);
+            boolean tolerable = true;
+            for (int i = 0; i < lines.lineCount(); i++) {
+                String line = lines.line(i);
+                tolerable &= lines.ratio(i) <= ParagraphBreaker.DEFAULT_TOLERANCE;
+                if (lines.ratio(i) >= -1) {
+                    // monospaced spaces shrink by a third of their width
+                    float shrink = (line.length() - line.replaceAll("\\s", "").length()) / 3f;
+                    assertTrue(width + ": " + line, line.length() - shrink <= width + 1e-3f);
+                }
+                int gapStart = i == 0 ? 0 : lines.end(i - 1);
+                assertTrue(width + ": " + line,
+                        TEXT.substring(gapStart, lines.start(i)).trim().isEmpty());
+            }
+            assertTrue(TEXT.substring(lines.end(lines.lineCount() - 1)).trim().isEmpty());
+            // looser layouts may take more lines to avoid an unstretchable one
+            if (tolerable) {
+                assertTrue(width + ": " + lines.lineCount(), lines.lineCount() <= previousCount);
+                previousCount = lines.lineCount();
+            }
+            assertEquals(TEXT, join(lines));
+        }
+    }
+
+    @Test
+    public void testOverfullWord() {
+        LineBreaks lines = breaker().prepare("Ein Strumpf").layout(3);
+        assertEquals(2, lines.lineCount());
+        assertEquals("Ein", lines.line(0));
+        assertEquals("Strumpf", lines.line(1));
+        assertTrue(lines.ratio(1) < -1);
+    }
+
+    @Test
+    public void testExplicitHyphen() {
+        LineBreaks lines = breaker().prepare("Lied-Text folgt").layout(6);
+        assertEquals("Lied-", lines.line(0));
+        assertFalse(lines.isHyphenated(0));
+    }
+
+    @Test
+    public void testEmptyParagraph() {
+        assertEquals(0, breaker().prepare(" \n ").layout(10).lineCount());
+    }
+}
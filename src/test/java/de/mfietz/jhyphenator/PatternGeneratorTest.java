@@ -0,0 +1,100 @@
+package de.mfietz.jhyphenator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+public class PatternGeneratorTest {
+
+    private static final List<String> WORDS = Arrays.asList(
+            "Apfelbaum", "Autobahn", "Bahnhof", "Baumhaus", "Bundespräsident", "Donaudampfer",
+            "Fahrrad", "Fensterbank", "Flugzeug", "Freundschaft", "Gartenzaun", "Gesundheit",
+            "Hausaufgabe", "Himmelblau", "Kindergarten", "Kochschule", "Kühlschrank",
+            "Lampenschirm", "Lebensmittel", "Mittagessen", "Nachbarschaft", "Regenbogen",
+            "Schiffahrt", "Schmetterling", "Sommerferien", "Sonnenblume", "Straßenbahn",
+            "Tageszeitung", "Taschenlampe", "Wasserflasche", "Weihnachten", "Zeitschrift");
+
+    private static final Hyphenator DE = Hyphenator.getInstance(HyphenationPattern.DE);
+
+    private static String hyphenated(Hyphenator hyphenator, String word) {
+        StringBuilder result = new StringBuilder();
+        for (String syllable : hyphenator.hyphenate(word)) {
+            if (result.length() > 0) {
+                result.append('-');
+            }
+            result.append(syllable);
+        }
+        return result.toString();
+    }
+
+    private static List<String> training() {
+        List<String> training = new ArrayList<String>();
+        for (String word : WORDS) {
+            training.add(hyphenated(DE, word));
+        }
+        return training;
+    }
+
+    @Test
+    public void testReproducesTrainingWords() {
+        List<PatternGenerator.Level> levels = Arrays.asList(
+                new PatternGenerator.Level(1, 3, 1, 1, 1),
+                new PatternGenerator.Level(1, 3, 1, 1, 1),
+                new PatternGenerator.Level(2, 5, 1, 1, 1),
+                new PatternGenerator.Level(2, 5, 1, 1, 1),
+                new PatternGenerator.Level(3, 7, 1, 1, 1),
+                new PatternGenerator.Level(3, 7, 1, 1, 1));
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            PatternGenerator generator = new PatternGenerator(2, 2, levels, pool);
+            Hyphenator trained = Hyphenator.create(generator.generate(training()), 2, 2);
+            for (String word : WORDS) {
+                assertEquals(hyphenated(DE, word), hyphenated(trained, word));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testPatternFormat() {
+        Map<Integer, String> patterns = new PatternGenerator(2, 2).generate(training());
+        assertTrue(!patterns.isEmpty());
+        for (Map.Entry<Integer, String> entry : patterns.entrySet()) {
+            assertEquals(0, entry.getValue().length() % entry.getKey());
+            assertTrue(entry.getValue().matches("[\\p{Ll}_1-9]+"));
+        }
+    }
+
+    @Test
+    public void testIgnoresCaseAndEmptyWords() {
+        ForkJoinPool pool = new ForkJoinPool(1);
+        try {
+            PatternGenerator generator = new PatternGenerator(1, 1, Arrays.asList(
+                    new PatternGenerator.Level(1, 2, 1, 1, 1)), pool);
+            Map<Integer, String> patterns = generator.generate(
+                    Arrays.asList("A-BA", "", "-", "a-ba"));
+            Hyphenator trained = Hyphenator.create(patterns, 1, 1);
+            assertEquals(Arrays.asList("a", "ba"), trained.hyphenate("aba"));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsDigits() {
+        new PatternGenerator(1, 1).generate(Arrays.asList("mp3-play-er"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsWhitespace() {
+        new PatternGenerator(1, 1).generate(Arrays.asList("play-er", "ice cream"));
+    }
+}
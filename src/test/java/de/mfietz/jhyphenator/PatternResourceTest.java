@@ -0,0 +1,31 @@
+package de.mfietz.jhyphenator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class PatternResourceTest {
+
+    @Test
+    public void testReadOnFirstAccess() {
+        PatternResource patterns = new PatternResource(PatternResource.RESOURCE_DIR + "de.txt");
+        assertFalse(patterns.isLoaded());
+        assertEquals(HyphenationPattern.DE.patterns, patterns);
+        assertTrue(patterns.isLoaded());
+        assertTrue(patterns.get(3).startsWith("2aaa1"));
+    }
+
+    @Test
+    public void testEveryLanguageHasPatterns() {
+        for (HyphenationPattern pattern : HyphenationPattern.values()) {
+            assertFalse(pattern.name(), pattern.patterns.isEmpty());
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testMissingResource() {
+        new PatternResource(PatternResource.RESOURCE_DIR + "xx.txt").size();
+    }
+}
@@ -0,0 +1,49 @@
+package de.mfietz.jhyphenator;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import org.junit.Test;
+
+public class StreamHyphenatorTest {
+
+    private static String hyphenate(StreamHyphenator hyphenator, String text) throws IOException {
+        StringWriter out = new StringWriter();
+        hyphenator.hyphenate(new StringReader(text), out);
+        return out.toString();
+    }
+
+    @Test
+    public void testPlainText() throws IOException {
+        StreamHyphenator hyphenator = new StreamHyphenator(
+                Hyphenator.getInstance(HyphenationPattern.DE), "-", false);
+        assertEquals("Der Schmet-ter-ling, die Koch-schu-le.",
+                hyphenate(hyphenator, "Der Schmetterling, die Kochschule."));
+    }
+
+    @Test
+    public void testMarkupIsSkipped() throws IOException {
+        StreamHyphenator hyphenator = new StreamHyphenator(
+                Hyphenator.getInstance(HyphenationPattern.DE), "&shy;", true);
+        assertEquals("<p class=\"Schmetterling\">Schmet&shy;ter&shy;ling&nbsp;Koch&shy;schu&shy;le</p>",
+                hyphenate(hyphenator, "<p class=\"Schmetterling\">Schmetterling&nbsp;Kochschule</p>"));
+    }
+
+    @Test
+    public void testLongInput() throws IOException {
+        StreamHyphenator hyphenator = new StreamHyphenator(
+                Hyphenator.getInstance(HyphenationPattern.DE), "-", false, 12);
+        StringBuilder text = new StringBuilder();
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            text.append("Schmetterling Hochverrat ");
+            expected.append("Schmetterling Hoch-ver-rat ");
+        }
+        StringBuilder out = new StringBuilder();
+        hyphenator.hyphenate(new StringReader(text.toString()), out);
+        assertEquals(expected.toString(), out.toString());
+    }
+}
@@ -0,0 +1,56 @@
+package de.mfietz.jhyphenator;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+public class TexPatternLoaderTest {
+
+    @Test
+    public void testTexFile() throws IOException {
+        InputStream in = TexPatternLoaderTest.class.getResourceAsStream("hyph-test.tex");
+        try {
+            Hyphenator h = TexPatternLoader.load(in, 2, 3);
+            assertEquals("hy-phen-ation", HyphenatorTest.join(h.hyphenate("hyphenation"), "-"));
+            assertEquals("ac-tiv-ity", HyphenatorTest.join(h.hyphenate("activity"), "-"));
+            assertEquals(15, h.stats().patternCount());
+            assertEquals("ta-ble", HyphenatorTest.join(h.hyphenate("table"), "-"));
+        } finally {
+            in.close();
+        }
+    }
+
+    @Test
+    public void testPlainPatternList() throws IOException {
+        Hyphenator h = TexPatternLoader.load(new StringReader(".hy3ph\nhe2n\nhena4\nhen5at\n"
+                + "1na\nn2at\n1tio\n2io\no2n\n"), 2, 3);
+        assertEquals("hy-phen-ation", HyphenatorTest.join(h.hyphenate("hyphenation"), "-"));
+    }
+
+    @Test
+    public void testSupplementaryCharacters() throws IOException {
+        // Gothic letters ahsa and bairkan, outside the BMP
+        String a = "\uD800\uDF30";
+        String b = "\uD800\uDF31";
+        Hyphenator h = TexPatternLoader.load(new StringReader(a + "1" + b), 2, 1);
+        assertEquals(a + b + a, HyphenatorTest.join(h.hyphenate(a + b + a), "-"));
+        assertEquals(a + a + "-" + b + a, HyphenatorTest.join(h.hyphenate(a + a + b + a), "-"));
+        int[] points = new int[8];
+        assertEquals(1, h.hyphenationPoints("x" + a + a + b + a, 1, 9, points));
+        assertEquals(4, points[0]);
+
+        // Deseret capital and small letters, which fold outside the BMP
+        String upper = "\uD801\uDC00\uD801\uDC01";
+        String lower = "\uD801\uDC28\uD801\uDC29";
+        Hyphenator exceptions = h.withExceptions(Arrays.asList(lower + "-" + lower));
+        assertEquals(upper + "-" + upper,
+                HyphenatorTest.join(exceptions.hyphenate(upper + upper), "-"));
+        assertEquals(lower + "-" + upper,
+                HyphenatorTest.join(exceptions.hyphenate(lower + upper), "-"));
+    }
+}
@@ -0,0 +1,57 @@
+package de.mfietz.jhyphenator;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Merges {@link PackedPoints} with the JDK Vector API. Each word of a
+ * packed vector is shifted into the two words of points it overlaps as one
+ * pair of lanes, and the pair is merged with a single byte-wise maximum
+ * instead of the SWAR arithmetic.
+ * <p>
+ * Compiled separately for JDK 16 and later and loaded by
+ * {@link PackedPoints} when the {@code jdk.incubator.vector} module is
+ * enabled.
+ */
+final class VectorMerge implements PackedPoints.Merge {
+
+    private static final VectorSpecies<Long> PAIR = LongVector.SPECIES_128;
+
+    /** Left shift of the low and high word for every byte offset. */
+    private static final LongVector[] LEFT = new LongVector[8];
+    /** Right shift of the low and high word for every byte offset. */
+    private static final LongVector[] RIGHT = new LongVector[8];
+    /** Lanes to keep, the high word is empty at offset 0. */
+    private static final LongVector[] KEEP = new LongVector[8];
+
+    static {
+        for (int offset = 0; offset < 8; offset++) {
+            int shift = offset << 3;
+            LEFT[offset] = LongVector.fromArray(PAIR, new long[] { shift, 0 }, 0);
+            RIGHT[offset] = LongVector.fromArray(PAIR, new long[] { 0, 64 - shift }, 0);
+            KEEP[offset] = LongVector.fromArray(PAIR, new long[] { -1, offset == 0 ? 0 : -1 }, 0);
+        }
+    }
+
+    @Override
+    public void merge(long[] points, int start, long[] packed, int ref) {
+        int index = PackedPoints.index(ref);
+        int end = index + ((PackedPoints.length(ref) + 7) >>> 3);
+        int word = start >>> 3;
+        int offset = start & 7;
+        LongVector left = LEFT[offset];
+        LongVector right = RIGHT[offset];
+        LongVector keep = KEEP[offset];
+        for (; index < end; index++, word++) {
+            LongVector pair = LongVector.broadcast(PAIR, packed[index])
+                    .lanewise(VectorOperators.LSHL, left)
+                    .lanewise(VectorOperators.LSHR, right)
+                    .and(keep);
+            ByteVector merged = LongVector.fromArray(PAIR, points, word).reinterpretAsBytes()
+                    .lanewise(VectorOperators.MAX, pair.reinterpretAsBytes());
+            merged.reinterpretAsLongs().intoArray(points, word);
+        }
+    }
+}